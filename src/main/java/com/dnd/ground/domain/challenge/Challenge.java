@@ -14,6 +14,8 @@ import java.util.List;
  * @since   2022-07-26
  * @updated 1.챌린지 색깔 필드 삭제
  *          - 2022-08-16 박찬호
+ *          2.시작 날짜 - 상태 인덱스 추가
+ *          - 2026-10-18
  */
 
 @Getter
@@ -21,7 +23,9 @@ import java.util.List;
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @ToString
-@Table(name="challenge")
+@Table(name="challenge", indexes = {
+        @Index(name = "idx_challenge_started_status", columnList = "challenge_started, challenge_status")
+})
 @Entity
 public class Challenge {
 
@@ -0,0 +1,51 @@
+package com.dnd.ground.domain.challenge;
+
+import com.dnd.ground.domain.user.User;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+/**
+ * @description 종료된 챌린지의 최종 결과(회원별 점수, 순위) 엔티티
+ * @since   2026-10-18
+ * @updated 1. 챌린지 - 회원 별 최종 점수, 순위 생성
+ *          - 2026-10-18
+ * @note 1. 챌린지 종료 시 한 번만 저장 (이후 변경x)
+ *       2. 점수: 넓히기(Widen) - 영역의 수, 기록하기(Accumulate) - 칸의 수
+ */
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "challenge_result", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_challenge_result_challenge_user", columnNames = {"challenge_id", "user_id"})
+})
+@Entity
+public class ChallengeResult {
+
+    @Id @GeneratedValue
+    @Column(name = "challenge_result_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "challenge_id", nullable = false)
+    private Challenge challenge;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "score", nullable = false)
+    private Long score;
+
+    @Column(name = "result_rank", nullable = false)
+    private Integer rank;
+
+    public ChallengeResult(Challenge challenge, User user, Long score, Integer rank) {
+        this.challenge = challenge;
+        this.user = user;
+        this.score = score;
+        this.rank = rank;
+    }
+}
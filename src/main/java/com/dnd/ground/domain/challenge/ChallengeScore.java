@@ -0,0 +1,51 @@
+package com.dnd.ground.domain.challenge;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.io.Serializable;
+
+/**
+ * @description 진행 중인 챌린지의 회원별 점수 엔티티
+ * @since   2026-10-18
+ * @updated 1. 챌린지 - 회원 별 점수, 칸 집합 비트맵 생성
+ *          - 2026-10-18
+ * @note 1. 기록 끝(recordEnd) 시 기록이 챌린지 기간에 속하는 진행 중인 챌린지들의 점수 갱신 (ChallengeScoreService)
+ *       2. 점수: 넓히기(Widen) - 영역의 수(중복x), 기록하기(Accumulate) - 칸의 수(중복o)
+ *       3. cell_bitmap은 넓히기 챌린지에서만 사용 (BitmapUtil로 직렬화한 Roaring64NavigableMap)
+ *       4. 기록이 없는 회원은 행이 없음 (0점), 챌린지 종료 시 최종 결과(ChallengeResult) 저장 후 삭제
+ */
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@IdClass(ChallengeScore.Key.class)
+@Table(name = "challenge_score")
+@Entity
+public class ChallengeScore {
+
+    @Id
+    @Column(name = "challenge_id")
+    private Long challengeId;
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "score", nullable = false)
+    private Long score;
+
+    @Lob
+    @Column(name = "cell_bitmap", columnDefinition = "mediumblob")
+    private byte[] cellBitmap;
+
+    /*복합 키*/
+    @Getter
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+        private Long challengeId;
+        private Long userId;
+    }
+}
@@ -5,6 +5,7 @@ import com.dnd.ground.domain.challenge.dto.*;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -15,6 +16,8 @@ import java.util.List;
  * @updated 1.챌린지 상세보기(지도) 기능 구현
  *          2.챌린지 관련 Response에 UUID 추가
  *          - 2022.08.26 박찬호
+ *          3.챌린지 상세보기(지도) streaming 조회 추가
+ *          - 2026.10.18
  */
 
 public interface ChallengeController {
@@ -26,4 +29,5 @@ public interface ChallengeController {
     ResponseEntity<List<ChallengeResponseDto.Invite>> getInviteChallenge(@RequestParam("nickname") String nickname);
     ResponseEntity<ChallengeResponseDto.Detail> getDetailProgressChallenge(@RequestBody ChallengeRequestDto.CInfo requestDto);
     ResponseEntity<ChallengeMapResponseDto.Detail> getChallengeDetailMap(@RequestParam("uuid") String uuid);
+    ResponseEntity<StreamingResponseBody> getChallengeDetailMapStream(@RequestParam("uuid") String uuid);
 }
@@ -8,8 +8,10 @@ import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -20,6 +22,8 @@ import java.util.List;
  * @since   2022-08-01
  * @updated 1. 챌린지 삭제 구현
  *          2022-10-26 박찬호
+ *          2. 챌린지 상세 지도 streaming 조회 추가
+ *          2026-10-18
  */
 
 @Api(tags = "챌린지")
@@ -85,6 +89,13 @@ public class ChallengeControllerImpl implements ChallengeController {
         return ResponseEntity.ok().body(challengeService.getChallengeDetailMap(uuid));
     }
 
+    @GetMapping("/detail/map/stream")
+    @Operation(summary = "챌린지 상세 정보 조회: 지도(streaming)",
+            description = "/detail/map과 같은 응답을 칸 리스트를 메모리에 모으지 않고 바로 작성\n큰 챌린지 지도 조회 시 사용")
+    public ResponseEntity<StreamingResponseBody> getChallengeDetailMapStream(@RequestParam("uuid") String uuid) {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(challengeService.getChallengeDetailMapStream(uuid));
+    }
+
     @PostMapping("/delete")
     @Operation(summary = "챌린지 삭제", description = "챌린지 생성자의 닉네임과 챌린지 UUID를 통해 챌린지 삭제")
     public ResponseEntity<Boolean> deleteChallenge(@RequestBody ChallengeRequestDto.CInfo request) {
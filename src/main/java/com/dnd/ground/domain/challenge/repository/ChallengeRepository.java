@@ -4,10 +4,12 @@ import com.dnd.ground.domain.challenge.Challenge;
 import com.dnd.ground.domain.challenge.ChallengeStatus;
 import com.dnd.ground.domain.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +19,13 @@ import java.util.Optional;
  * @since   2022-08-03
  * @updated 조인 시 일부 조건이 빠져있던 문제 해결
  *          - 2022.10.29 박찬호
+ *          챌린지 시작 시 id 조회, 상태 일괄 변경, 일괄 삭제 쿼리 추가
+ *          챌린지 종료 시 진행 중, 대기 중인 챌린지 id 조회 쿼리 추가
+ *          완료된 챌린지 목록 조회를 최종 결과 조회로 대체, 최종 결과가 없는 완료된 챌린지 id 조회 쿼리 추가
+ *          진행 중, 진행 대기 중, 초대 받은 챌린지 목록 조회를 UC 조회(UserChallengeRepository)로 대체
+ *          회원이 참여하는 진행 중인 챌린지, 진행 중인 챌린지 id 조회 쿼리 추가 (챌린지 점수 갱신)
+ *          친구와 함께 진행 중인 챌린지 조회를 UC 조회(UserChallengeRepository)로 대체
+ *          - 2026.10.18
  */
 
 public interface ChallengeRepository extends JpaRepository<Challenge, Long> {
@@ -24,17 +33,6 @@ public interface ChallengeRepository extends JpaRepository<Challenge, Long> {
     //UUID로 챌린지 조회
     Optional<Challenge> findByUuid(@Param("uuid") String uuid);
 
-    //진행 중인 챌린지 목록 정보 조회
-    @Query("select c from Challenge c inner join UserChallenge uc on uc.challenge=c where uc.user=:user and c.status='Progress' order by c.started ASC")
-    List<Challenge> findProgressChallenge(@Param("user") User user);
-
-    //진행대기 중인 챌린지 목록 정보 조회
-    @Query("select c from Challenge c inner join UserChallenge uc on uc.challenge=c where uc.user=:user and uc.status<>'Reject' and c.status='Wait' order by c.started ASC")
-    List<Challenge> findWaitChallenge(@Param("user") User user);
-
-    //완료된 챌린지 목록 정보 조회
-    @Query("select c from Challenge c inner join UserChallenge uc on uc.challenge=c where uc.user=:user and c.status='Done' order by c.started ASC")
-    List<Challenge> findDoneChallenge(@Param("user") User user);
      
     //진행 중인 챌린지 개수
     @Query("select count(c) from Challenge c inner join UserChallenge uc on uc.challenge=c where " +
@@ -46,21 +44,37 @@ public interface ChallengeRepository extends JpaRepository<Challenge, Long> {
             "c.status='Progress' and c = (select uc.challenge from UserChallenge uc where uc.challenge=c and uc.user =:friend)")
     Integer findCountChallenge(@Param("user")User user, @Param("friend") User friend);
 
-    //친구와 함께 진행 중인 챌린지 정보 조회
-    @Query("select c from Challenge c where c IN (select uc.challenge from UserChallenge uc where uc.user=:user and uc.challenge=c) and " +
-            "c.status='Progress' and c = (select uc.challenge from UserChallenge uc where uc.challenge=c and uc.user =:friend) order by c.id ASC")
-    List<Challenge> findChallengesWithFriend(@Param("user")User user, @Param("friend") User friend);
+    //시작 날짜가 오늘인(진행 중이 아닌) 챌린지 id 조회
+    @Query("select c.id from Challenge c where c.status<>'Progress' and c.started=:today order by c.id ASC")
+    List<Long> findChallengeIdsNotStarted(@Param("today") LocalDate today);
+
+    //회원이 참여하는 진행 중인 챌린지 조회
+    @Query("select c from Challenge c where c.status='Progress' and " +
+            "c.id in (select uc.challenge.id from UserChallenge uc where uc.user.id=:userId)")
+    List<Challenge> findProgressChallengesByUserId(@Param("userId") Long userId);
+
+    //진행 중인 챌린지 id 조회
+    @Query("select c.id from Challenge c where c.status='Progress' order by c.id ASC")
+    List<Long> findProgressChallengeIds();
+
+    //진행 중, 대기 중인 챌린지 id 조회 (챌린지 종료 대상)
+    @Query("select c.id from Challenge c where c.status='Progress' or c.status='Wait' order by c.id ASC")
+    List<Long> findChallengeIdsNotDone();
 
-    //진행 중인 챌린지를 제외하고, 모든 챌린지 조회 -> Progress가 아니면서 시작 날짜가 오늘인 챌린지 조회
-    @Query("select c from Challenge c where c.status<>'Progress' and c.started=:today")
-    List<Challenge> findChallengesNotStarted(@Param("today") LocalDate today);
+    //최종 결과가 없는 완료된 챌린지 id 조회 (결과 저장 전에 종료된 챌린지)
+    @Query("select c.id from Challenge c where c.status='Done' and " +
+            "not exists (select r from ChallengeResult r where r.challenge=c) order by c.id ASC")
+    List<Long> findDoneChallengeIdsWithoutResult();
 
-    //진행 중인 전체 챌린지 조회
-    List<Challenge> findChallengesByStatusEquals(ChallengeStatus Progress);
+    //챌린지 상태 일괄 변경
+    @Modifying(clearAutomatically = true)
+    @Query("update Challenge c set c.status=:status where c.id in :challengeIds")
+    int updateStatusByIds(@Param("challengeIds") Collection<Long> challengeIds, @Param("status") ChallengeStatus status);
 
-    //초대 받은 챌린지 조회(UC가 Wait 상태인 챌린지 조회)
-    @Query("select c from Challenge c inner join UserChallenge uc on uc.user=:user and uc.challenge=c where uc.status='Wait' order by c.created ASC")
-    List<Challenge> findChallengeInWait(@Param("user") User user);
+    //챌린지 일괄 삭제 (UC를 먼저 삭제)
+    @Modifying(clearAutomatically = true)
+    @Query("delete from Challenge c where c.id in :challengeIds")
+    int deleteByIds(@Param("challengeIds") Collection<Long> challengeIds);
 
     //챌린지 시작 시간이 start~end 사이인 챌린지 조회
     @Query("select c from Challenge c inner join UserChallenge uc on uc.challenge = c where (uc.status='Progress' or uc.status='Done' or uc.status='MasterDone') " +
@@ -0,0 +1,42 @@
+package com.dnd.ground.domain.challenge.repository;
+
+import com.dnd.ground.domain.challenge.Challenge;
+import com.dnd.ground.domain.challenge.ChallengeResult;
+import com.dnd.ground.domain.user.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * @description 종료된 챌린지의 최종 결과 레포지토리
+ * @since   2026-10-18
+ * @updated 1. 챌린지의 결과 조회, 챌린지/회원의 결과 삭제 쿼리 추가
+ *          2. 회원의 완료된 챌린지들의 결과를 한 번에 조회하는 쿼리 추가
+ *          - 2026.10.18
+ */
+
+public interface ChallengeResultRepository extends JpaRepository<ChallengeResult, Long> {
+
+    //챌린지의 결과 조회(회원 fetch join, 순위 오름차순)
+    @Query("select r from ChallengeResult r join fetch r.user where r.challenge=:challenge order by r.rank ASC, r.id ASC")
+    List<ChallengeResult> findByChallengeWithUser(@Param("challenge") Challenge challenge);
+
+    //회원의 완료된 챌린지들의 결과 조회(챌린지/회원 fetch join, 챌린지 시작 날짜, 순위 오름차순)
+    @Query("select r from ChallengeResult r join fetch r.challenge c join fetch r.user " +
+            "where c.status='Done' and c.id in (select mine.challenge.id from ChallengeResult mine where mine.user=:user) " +
+            "order by c.started ASC, c.id ASC, r.rank ASC, r.id ASC")
+    List<ChallengeResult> findDoneResultsWithMembers(@Param("user") User user);
+
+    //챌린지의 결과 삭제
+    @Modifying(clearAutomatically = true)
+    @Query("delete from ChallengeResult r where r.challenge=:challenge")
+    int deleteByChallenge(@Param("challenge") Challenge challenge);
+
+    //회원의 결과 삭제
+    @Modifying(clearAutomatically = true)
+    @Query("delete from ChallengeResult r where r.user=:user")
+    int deleteByUser(@Param("user") User user);
+}
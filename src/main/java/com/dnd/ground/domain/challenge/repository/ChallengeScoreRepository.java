@@ -0,0 +1,35 @@
+package com.dnd.ground.domain.challenge.repository;
+
+import com.dnd.ground.domain.challenge.ChallengeScore;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.Tuple;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * @description 진행 중인 챌린지의 회원별 점수 레포지토리
+ * @since   2026-10-18
+ * @updated 1. 챌린지들의 점수 조회, 챌린지/회원의 점수 삭제 쿼리 추가
+ *          - 2026.10.18
+ */
+
+public interface ChallengeScoreRepository extends JpaRepository<ChallengeScore, ChallengeScore.Key> {
+
+    //챌린지들의 회원별 점수 조회 Tuple[챌린지 id, 회원 id, 점수] (비트맵 제외, PK(challenge_id, user_id) range scan)
+    @Query("select s.challengeId, s.userId, s.score from ChallengeScore s where s.challengeId in :challengeIds")
+    List<Tuple> findScores(@Param("challengeIds") Collection<Long> challengeIds);
+
+    //챌린지들의 점수 삭제
+    @Modifying(clearAutomatically = true)
+    @Query("delete from ChallengeScore s where s.challengeId in :challengeIds")
+    int deleteByChallengeIds(@Param("challengeIds") Collection<Long> challengeIds);
+
+    //회원의 점수 삭제
+    @Modifying(clearAutomatically = true)
+    @Query("delete from ChallengeScore s where s.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
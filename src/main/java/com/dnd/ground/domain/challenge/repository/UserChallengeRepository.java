@@ -2,6 +2,7 @@ package com.dnd.ground.domain.challenge.repository;
 
 import com.dnd.ground.domain.challenge.Challenge;
 import com.dnd.ground.domain.challenge.ChallengeColor;
+import com.dnd.ground.domain.challenge.ChallengeStatus;
 import com.dnd.ground.domain.challenge.UserChallenge;
 import com.dnd.ground.domain.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,6 +10,9 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import javax.persistence.Tuple;
+
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +22,12 @@ import java.util.Optional;
  * @since   2022-08-03
  * @updated 1. 챌린지-회원 관계 테이블에 데이터가 있는 회원 조회 쿼리 추가
  *          - 2022.10.01 박찬호
+ *          2. 회원이 진행 중인 챌린지들의 UC를 회원, 챌린지와 함께 조회하는 쿼리 추가
+ *          3. 챌린지 시작 시 UC 일괄 삭제, 상태 일괄 변경 쿼리 추가
+ *          4. 챌린지 종료 시 진행 중인 챌린지들의 UC 조회, 주최자 상태 일괄 변경 쿼리 추가
+ *          5. 챌린지들의 UC 조회를 상태 상관없이 조회하도록 변경, 완료된 챌린지 별 색깔 조회 쿼리 추가
+ *          6. 진행 중, 진행 대기 중, 초대 받은 챌린지 리스트를 한 번에 조회하는 쿼리 추가 (챌린지 별 회원 수, 주최자 조회 쿼리 대체)
+ *          - 2026.10.18
  */
 
 public interface UserChallengeRepository extends JpaRepository<UserChallenge, Long> {
@@ -41,13 +51,23 @@ public interface UserChallengeRepository extends JpaRepository<UserChallenge, Lo
     @Query("select uc.user from UserChallenge uc where uc.challenge=:challenge")
     List<User> findChallengeUsers(@Param("challenge") Challenge challenge);
 
-    //챌린지에 포함된 회원 수 조회
-    @Query("select count(uc) from UserChallenge uc where uc.challenge=:challenge")
-    int findUCCount(@Param("challenge") Challenge challenge);
+    //회원이 진행 중인 챌린지들의 모든 UC 조회(회원/챌린지 fetch join, 챌린지 시작 날짜 오름차순)
+    @Query("select uc from UserChallenge uc join fetch uc.user join fetch uc.challenge c " +
+            "where c.status='Progress' and c.id in (select mine.challenge.id from UserChallenge mine where mine.user=:user) " +
+            "order by c.started ASC, c.id ASC, uc.id ASC")
+    List<UserChallenge> findProgressChallengeUCs(@Param("user") User user);
+
+    //회원이 진행 대기 중인(거절x) 챌린지들의 모든 UC 조회(회원/챌린지 fetch join, 챌린지 시작 날짜 오름차순)
+    @Query("select uc from UserChallenge uc join fetch uc.user join fetch uc.challenge c " +
+            "where c.status='Wait' and c.id in (select mine.challenge.id from UserChallenge mine where mine.user=:user and mine.status<>'Reject') " +
+            "order by c.started ASC, c.id ASC, uc.id ASC")
+    List<UserChallenge> findWaitChallengeUCs(@Param("user") User user);
 
-    //Progress 상태의 회원 수 조회
-    @Query("select count(uc) from UserChallenge uc where uc.challenge=:challenge and (uc.status='Progress' or uc.status='Master')")
-    int findUCReadyCount(Challenge challenge);
+    //회원이 초대 받은(UC가 Wait 상태인) 챌린지들의 주최자 UC 조회(주최자/챌린지 fetch join, 챌린지 생성 시간 오름차순)
+    @Query("select uc from UserChallenge uc join fetch uc.user join fetch uc.challenge c " +
+            "where uc.status='Master' and c.id in (select mine.challenge.id from UserChallenge mine where mine.user=:user and mine.status='Wait') " +
+            "order by c.created ASC, c.id ASC")
+    List<UserChallenge> findInvitedChallengeMasterUCs(@Param("user") User user);
 
     //유저와 챌린지를 통해 UserChallenge 조회
     Optional<UserChallenge> findByUserAndChallenge(User user, Challenge challenge);
@@ -56,14 +76,43 @@ public interface UserChallengeRepository extends JpaRepository<UserChallenge, Lo
     @Query("select uc from UserChallenge uc where uc.challenge=:challenge")
     List<UserChallenge> findUCByChallenge(@Param("challenge") Challenge challenge);
 
-    //대기 중, 거절 상태의 UC 삭제
+    //챌린지들의 대기 중, 거절 상태의 UC 일괄 삭제
+    @Modifying(clearAutomatically = true)
+    @Query("delete from UserChallenge uc where uc.challenge.id in :challengeIds and (uc.status='Wait' or uc.status='Reject')")
+    int deleteNotAcceptedUCs(@Param("challengeIds") Collection<Long> challengeIds);
+
+    //챌린지들 중 회원이 1명(주최자)만 남은 챌린지 id 조회
+    @Query("select uc.challenge.id from UserChallenge uc where uc.challenge.id in :challengeIds " +
+            "group by uc.challenge.id having count(uc) = 1")
+    List<Long> findSoloChallengeIds(@Param("challengeIds") Collection<Long> challengeIds);
+
+    //챌린지들의 UC 일괄 삭제
+    @Modifying(clearAutomatically = true)
+    @Query("delete from UserChallenge uc where uc.challenge.id in :challengeIds")
+    int deleteByChallengeIds(@Param("challengeIds") Collection<Long> challengeIds);
+
+    //챌린지들의 참여 회원(주최자 제외) 상태 일괄 변경
+    @Modifying(clearAutomatically = true)
+    @Query("update UserChallenge uc set uc.status=:status where uc.challenge.id in :challengeIds and uc.status<>'Master'")
+    int updateMemberStatus(@Param("challengeIds") Collection<Long> challengeIds, @Param("status") ChallengeStatus status);
+
+    //챌린지들의 주최자 상태 일괄 변경
     @Modifying(clearAutomatically = true)
-    @Query("delete from UserChallenge uc where uc.challenge=:challenge and (uc.status='Wait' or uc.status='Reject')")
-    int deleteUCByChallenge(@Param("challenge") Challenge challenge);
+    @Query("update UserChallenge uc set uc.status=:status where uc.challenge.id in :challengeIds and uc.status='Master'")
+    int updateMasterStatus(@Param("challengeIds") Collection<Long> challengeIds, @Param("status") ChallengeStatus status);
 
-    //챌린지의 주최자 조회
-    @Query("select uc.user from UserChallenge uc where uc.challenge=:challenge and uc.status='Master'")
-    User findMasterInChallenge(@Param("challenge") Challenge challenge);
+    //챌린지들의 UC 조회(회원/챌린지 fetch join)
+    @Query("select uc from UserChallenge uc join fetch uc.user join fetch uc.challenge c " +
+            "where c.id in :challengeIds order by c.id ASC")
+    List<UserChallenge> findUCsByChallengeIdsWithMembers(@Param("challengeIds") Collection<Long> challengeIds);
+
+    //회원의 완료된 챌린지 별 색깔 조회 Tuple[챌린지 id, 색깔]
+    @Query("select uc.challenge.id, uc.color from UserChallenge uc where uc.user=:user and uc.challenge.status='Done'")
+    List<Tuple> findDoneChallengeColors(@Param("user") User user);
+
+    //챌린지들의 회원 id 조회
+    @Query("select uc.user.id from UserChallenge uc where uc.challenge.id in :challengeIds")
+    List<Long> findUserIdsByChallengeIds(@Param("challengeIds") Collection<Long> challengeIds);
 
 
     //회원이 참여하고 있는 챌린지 개수 (챌린지 상태 상관X)
@@ -78,5 +127,8 @@ public interface UserChallengeRepository extends JpaRepository<UserChallenge, Lo
     @Query("select uc from UserChallenge uc where uc.user=:user")
     List<UserChallenge> findUCs(@Param("user") User user);
 
-
+    //회원이 진행 중인 챌린지들의 UC 조회(본인 포함, 회원/챌린지 fetch join)
+    @Query("select uc from UserChallenge uc join fetch uc.user join fetch uc.challenge c where c.status='Progress' and " +
+            "c in (select muc.challenge from UserChallenge muc where muc.user=:user) order by c.id ASC")
+    List<UserChallenge> findProgressUCsWithMembers(@Param("user") User user);
 }
@@ -0,0 +1,21 @@
+package com.dnd.ground.domain.challenge.service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * @description 진행 중인 챌린지의 회원별 점수 서비스 인터페이스
+ * @since   2026-10-18
+ * @updated 1. 기록 끝 시 챌린지 점수 갱신, 챌린지들의 점수 조회, 점수 다시 계산(backfill) 추가
+ *          - 2026-10-18
+ */
+
+public interface ChallengeScoreService {
+    void addRecord(Long userId, LocalDateTime started, long[] cellKeys);
+
+    Map<Long, Long> getScores(Long challengeId);
+    Map<Long, Map<Long, Long>> getScores(Collection<Long> challengeIds);
+
+    int rebuildScores();
+}
@@ -0,0 +1,179 @@
+package com.dnd.ground.domain.challenge.service;
+
+import com.dnd.ground.domain.challenge.Challenge;
+import com.dnd.ground.domain.challenge.ChallengeType;
+import com.dnd.ground.domain.challenge.UserChallenge;
+import com.dnd.ground.domain.challenge.repository.ChallengeRepository;
+import com.dnd.ground.domain.challenge.repository.ChallengeScoreRepository;
+import com.dnd.ground.domain.challenge.repository.UserChallengeRepository;
+import com.dnd.ground.domain.matrix.dto.MatrixQueryDto;
+import com.dnd.ground.domain.matrix.matrixRepository.MatrixRepository;
+import com.dnd.ground.global.util.BitmapUtil;
+import com.dnd.ground.global.util.WeekUtil;
+import lombok.RequiredArgsConstructor;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.Tuple;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+
+/**
+ * @description 진행 중인 챌린지의 회원별 점수(challenge_score) 서비스 클래스
+ *              1. 기록 끝 시 기록이 챌린지 기간에 속하는 진행 중인 챌린지들의 점수 갱신
+ *              2. 넓히기(Widen): 칸 집합 비트맵에 기록의 칸 추가 후 비트맵 크기를 점수로 저장
+ *              3. 기록하기(Accumulate): 기록의 칸 수를 점수에 더함
+ * @since   2026-10-18
+ * @updated 1. 챌린지 점수 갱신, 조회, 다시 계산(backfill) 추가
+ *          2. 넓히기 점수 행을 insert ... on duplicate key update로 만들거나 배타 잠금 후 비트맵 조회
+ *          3. 기록하기 점수는 한 번의 multi-row upsert로 갱신, 넓히기 점수 행은 챌린지 id 순으로 한 번에 잠금
+ *          - 2026-10-18
+ * @note 1. 호출한 쪽(recordEnd)의 트랜잭션에 참여
+ *       2. 비트맵은 점수 행을 잠근 뒤 select for update 후 합쳐서 저장 (TerritoryService와 같은 방식)
+ *          - 없는 행을 select for update 하면 gap lock끼리 충돌해서, 같은 회원의 첫 기록 끝이 동시에 오면 deadlock
+ *       3. 기록이 없는 회원은 점수 행이 없음 (0점)
+ *       4. 여러 챌린지의 점수 행은 항상 챌린지 id 순으로 잠금 (같은 회원의 기록 끝끼리 잠금 순서가 엇갈리지 않음)
+ */
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ChallengeScoreServiceImpl implements ChallengeScoreService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ChallengeRepository challengeRepository;
+    private final ChallengeScoreRepository challengeScoreRepository;
+    private final UserChallengeRepository userChallengeRepository;
+    private final MatrixRepository matrixRepository;
+
+    private static final String LOCK_SCORES =
+            "insert into challenge_score(challenge_id, user_id, score, cell_bitmap) values %s " +
+            "on duplicate key update user_id = user_id";
+
+    private static final String SELECT_BITMAPS_FOR_UPDATE =
+            "select challenge_id, cell_bitmap from challenge_score where challenge_id in (%s) and user_id = ? " +
+            "order by challenge_id for update";
+
+    private static final String UPSERT_SCORE =
+            "insert into challenge_score(challenge_id, user_id, score, cell_bitmap) values (?, ?, ?, ?) " +
+            "on duplicate key update score = values(score), cell_bitmap = values(cell_bitmap)";
+
+    private static final String UPDATE_SCORE =
+            "update challenge_score set score = ?, cell_bitmap = ? where challenge_id = ? and user_id = ?";
+
+    private static final String ADD_MATRIX_COUNTS =
+            "insert into challenge_score(challenge_id, user_id, score) values %s " +
+            "on duplicate key update score = score + values(score)";
+
+    // 기록의 칸들을 회원이 참여하는 진행 중인 챌린지들의 점수에 추가 (기록 시작 시간이 챌린지 기간에 속하는 챌린지만)
+    public void addRecord(Long userId, LocalDateTime started, long[] cellKeys) {
+        LocalDate recordDate = started.toLocalDate();
+        int week = WeekUtil.toWeek(started);
+
+        //챌린지 id 순으로 정렬 (잠금 순서 고정)
+        List<Long> widenIds = new ArrayList<>();
+        List<Long> accumulateIds = new ArrayList<>();
+        for (Challenge challenge : challengeRepository.findProgressChallengesByUserId(userId)) {
+            //챌린지 기간: 시작 날짜 ~ 해당 주 일요일
+            if (challenge.getStarted().isAfter(recordDate) || WeekUtil.toWeek(challenge.getStarted().atStartOfDay()) != week) continue;
+
+            if (challenge.getType() == ChallengeType.Widen) widenIds.add(challenge.getId());
+            else if (challenge.getType() == ChallengeType.Accumulate) accumulateIds.add(challenge.getId());
+        }
+        Collections.sort(widenIds);
+        Collections.sort(accumulateIds);
+
+        if (!widenIds.isEmpty()) addWidenCells(userId, widenIds, cellKeys);
+
+        //기록하기: 칸 수를 한 번의 upsert로 더함
+        if (!accumulateIds.isEmpty()) {
+            List<Object> args = new ArrayList<>();
+            for (Long challengeId : accumulateIds) Collections.addAll(args, challengeId, userId, cellKeys.length);
+            jdbcTemplate.update(String.format(ADD_MATRIX_COUNTS, rows("(?, ?, ?)", accumulateIds.size())), args.toArray());
+        }
+    }
+
+    // 넓히기: 점수 행들을 만들거나 챌린지 id 순으로 한 번에 배타 잠금 후 비트맵에 칸 추가 (같은 회원 - 챌린지의 기록 끝은 순서대로 처리)
+    private void addWidenCells(Long userId, List<Long> challengeIds, long[] cellKeys) {
+        List<Object> lockArgs = new ArrayList<>();
+        for (Long challengeId : challengeIds) Collections.addAll(lockArgs, challengeId, userId);
+        jdbcTemplate.update(String.format(LOCK_SCORES, rows("(?, ?, 0, null)", challengeIds.size())), lockArgs.toArray());
+
+        List<Object> selectArgs = new ArrayList<>(challengeIds);
+        selectArgs.add(userId);
+        Map<Long, byte[]> saved = new HashMap<>();
+        jdbcTemplate.query(String.format(SELECT_BITMAPS_FOR_UPDATE, rows("?", challengeIds.size())),
+                rs -> { saved.put(rs.getLong(1), rs.getBytes(2)); }, selectArgs.toArray());
+
+        List<Object[]> updateArgs = new ArrayList<>();
+        for (Long challengeId : challengeIds) {
+            byte[] bytes = saved.get(challengeId);
+            Roaring64NavigableMap bitmap = bytes == null ? new Roaring64NavigableMap() : BitmapUtil.deserialize(bytes);
+            for (long cellKey : cellKeys) bitmap.addLong(cellKey);
+            updateArgs.add(new Object[]{bitmap.getLongCardinality(), BitmapUtil.serialize(bitmap), challengeId, userId});
+        }
+        jdbcTemplate.batchUpdate(UPDATE_SCORE, updateArgs);
+    }
+
+    // multi-row insert, in 절의 placeholder (row를 count번 반복)
+    private static String rows(String row, int count) {
+        return String.join(", ", Collections.nCopies(count, row));
+    }
+
+    // 챌린지의 회원별 점수 (기록이 없는 회원은 결과에 없음)
+    @Transactional(readOnly = true)
+    public Map<Long, Long> getScores(Long challengeId) {
+        return getScores(List.of(challengeId)).getOrDefault(challengeId, new HashMap<>());
+    }
+
+    // 챌린지들의 회원별 점수 [챌린지 id -> [회원 id -> 점수]]
+    @Transactional(readOnly = true)
+    public Map<Long, Map<Long, Long>> getScores(Collection<Long> challengeIds) {
+        Map<Long, Map<Long, Long>> scores = new HashMap<>();
+        if (challengeIds.isEmpty()) return scores;
+
+        for (Tuple tuple : challengeScoreRepository.findScores(challengeIds)) {
+            scores.computeIfAbsent(tuple.get(0, Long.class), id -> new HashMap<>())
+                    .put(tuple.get(1, Long.class), tuple.get(2, Long.class));
+        }
+        return scores;
+    }
+
+    // 진행 중인 챌린지들의 점수를 기존 칸으로 다시 계산 (backfill)
+    public int rebuildScores() {
+        List<Long> challengeIds = challengeRepository.findProgressChallengeIds();
+        if (challengeIds.isEmpty()) return 0;
+
+        Map<Challenge, List<Long>> memberIdsByChallenge = new LinkedHashMap<>();
+        for (UserChallenge uc : userChallengeRepository.findUCsByChallengeIdsWithMembers(challengeIds)) {
+            memberIdsByChallenge.computeIfAbsent(uc.getChallenge(), c -> new ArrayList<>()).add(uc.getUser().getId());
+        }
+
+        memberIdsByChallenge.forEach((challenge, memberIds) -> {
+            LocalDate started = challenge.getStarted(); //챌린지 시작 날짜
+            LocalDate ended = started.plusDays(7 - started.getDayOfWeek().getValue()); //챌린지 끝나는 날(해당 주 일요일)
+            LocalDateTime start = started.atStartOfDay();
+            LocalDateTime end = ended.atTime(LocalTime.MAX);
+
+            if (challenge.getType() == ChallengeType.Widen) {
+                Map<Long, List<Long>> cellKeys = new HashMap<>();
+                for (MatrixQueryDto.UserCell cell : matrixRepository.findUserCellsBetween(memberIds, start, end)) {
+                    cellKeys.computeIfAbsent(cell.getUserId(), id -> new ArrayList<>()).add(cell.getCellKey());
+                }
+                cellKeys.forEach((userId, keys) -> {
+                    Roaring64NavigableMap bitmap = BitmapUtil.of(keys);
+                    jdbcTemplate.update(UPSERT_SCORE, challenge.getId(), userId, bitmap.getLongCardinality(), BitmapUtil.serialize(bitmap));
+                });
+            } else if (challenge.getType() == ChallengeType.Accumulate) {
+                for (MatrixQueryDto.UserCount count : matrixRepository.findMatrixCountsBetween(memberIds, start, end)) {
+                    jdbcTemplate.update(UPSERT_SCORE, challenge.getId(), count.getUserId(), count.getCount(), null);
+                }
+            }
+        });
+        return memberIdsByChallenge.size();
+    }
+}
@@ -3,6 +3,7 @@ package com.dnd.ground.domain.challenge.service;
 import com.dnd.ground.domain.challenge.ChallengeStatus;
 import com.dnd.ground.domain.challenge.dto.*;
 import com.dnd.ground.domain.exerciseRecord.ExerciseRecord;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -12,6 +13,10 @@ import java.util.List;
  * @since   2022-08-03
  * @updated 1. 챌린지 삭제 구현
  *          2022-10-26 박찬호
+ *          2. 챌린지 상세 지도 streaming 조회 추가
+ *          2026-10-18
+ *          3. 완료된 챌린지의 최종 결과 backfill 추가
+ *          2026-10-18
  */
 
 public interface ChallengeService {
@@ -21,6 +26,7 @@ public interface ChallengeService {
 
     void startPeriodChallenge();
     void endPeriodChallenge();
+    int backfillChallengeResults();
 
     List<ChallengeResponseDto.Wait> findWaitChallenge(String nickname);
     List<ChallengeResponseDto.Progress> findProgressChallenge(String nickname);
@@ -30,6 +36,7 @@ public interface ChallengeService {
 
     ChallengeResponseDto.Detail getDetailProgress(ChallengeRequestDto.CInfo requestDto);
     ChallengeMapResponseDto.Detail getChallengeDetailMap(String uuid);
+    StreamingResponseBody getChallengeDetailMapStream(String uuid);
 
     List<ChallengeResponseDto.CInfoRes> findChallengeByRecord(ExerciseRecord exerciseRecord);
 
@@ -3,28 +3,44 @@ package com.dnd.ground.domain.challenge.service;
 import com.dnd.ground.domain.challenge.*;
 import com.dnd.ground.domain.challenge.dto.*;
 import com.dnd.ground.domain.challenge.repository.ChallengeRepository;
+import com.dnd.ground.domain.challenge.repository.ChallengeResultRepository;
+import com.dnd.ground.domain.challenge.repository.ChallengeScoreRepository;
 import com.dnd.ground.domain.challenge.repository.UserChallengeRepository;
 import com.dnd.ground.domain.exerciseRecord.ExerciseRecord;
 import com.dnd.ground.domain.exerciseRecord.Repository.ExerciseRecordRepository;
 import com.dnd.ground.domain.matrix.dto.MatrixDto;
+import com.dnd.ground.domain.matrix.dto.MatrixQueryDto;
 import com.dnd.ground.domain.matrix.matrixRepository.MatrixRepository;
+import com.dnd.ground.domain.matrix.matrixRepository.MatrixStreamRepository;
 import com.dnd.ground.domain.matrix.matrixService.MatrixService;
+import com.dnd.ground.domain.matrix.matrixService.TerritoryService;
 import com.dnd.ground.domain.user.User;
-import com.dnd.ground.domain.user.dto.RankResponseDto;
 import com.dnd.ground.domain.user.dto.UserResponseDto;
+import com.dnd.ground.domain.user.event.HomeChangedEvent;
 import com.dnd.ground.domain.user.repository.UserRepository;
 import com.dnd.ground.global.exception.CExceedChallengeException;
 import com.dnd.ground.global.exception.CNotFoundException;
 import com.dnd.ground.global.exception.CNotValidationException;
 import com.dnd.ground.global.exception.CommonErrorCode;
+import com.dnd.ground.global.util.MatrixStreamWriter;
+import com.dnd.ground.global.util.SingleFlight;
 import com.dnd.ground.global.util.UuidUtil;
+import com.dnd.ground.global.util.WeekUtil;
+import com.fasterxml.jackson.core.JsonGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.persistence.Tuple;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -39,6 +55,42 @@ import java.util.*;
  * @since 2022-08-03
  * @updated 1. 챌린지 삭제 구현
  *          2022-10-26 박찬호
+ *          2. 영역의 수를 칸 키 count(distinct)로 조회
+ *          2026-10-18
+ *          3. 월요일에 시작한 넓히기 챌린지 랭킹은 주간 칸 집합(비트맵)으로 계산
+ *          2026-10-18
+ *          4. 넓히기 챌린지 랭킹의 영역 수를 회원별 group by 쿼리 한 번으로 조회
+ *          2026-10-18
+ *          5. 챌린지 상세 지도의 칸 리스트를 streaming으로 작성
+ *          2026-10-18
+ *          6. 챌린지 기간 영역을 기록 리스트(IN) 대신 회원 id와 기간으로 조회
+ *          2026-10-18
+ *          7. 진행 중인 챌린지가 시작, 종료, 변경, 삭제되면 메인화면 변경 이벤트 발행
+ *          2026-10-18
+ *          8. 동시에 들어온 같은 진행 중인 챌린지 리스트 조회는 한 번만 조회(single-flight)
+ *          2026-10-18
+ *          9. 챌린지 시작 스케줄러를 chunk 단위 일괄 삭제, 일괄 상태 변경으로 처리 (chunk 마다 커밋)
+ *          2026-10-18
+ *          10. 챌린지 종료 스케줄러를 chunk 단위 일괄 상태 변경으로 처리, 종료 시 최종 결과(점수, 순위) 저장
+ *          2026-10-18
+ *          11. 완료된 챌린지 리스트의 순위를 저장된 최종 결과에서 조회
+ *          2026-10-18
+ *          12. 완료된 챌린지 리스트를 최종 결과, 색깔 일괄 조회로 변경(챌린지 수와 상관없이 고정된 쿼리 수), 최종 결과 backfill 추가
+ *          2026-10-18
+ *          13. 진행 중, 진행 대기 중, 초대 받은 챌린지 리스트를 챌린지 별 조회 대신 UC 일괄 조회로 작성
+ *          2026-10-18
+ *          14. 진행 중인 챌린지 랭킹을 기록 끝 시 갱신되는 회원별 점수(challenge_score)에서 조회
+ *          2026-10-18
+ *          15. 스케줄러 chunk 크기를 설정(challenge.chunk-size)으로 변경
+ *          2026-10-18
+ *          16. 진행 중인 챌린지 리스트 조회 트랜잭션을 single-flight가 아닌 조회에서 시작
+ *          2026-10-18
+ *          17. 월요일에 시작한 넓히기 챌린지 랭킹을 주간 칸 집합(비트맵) 대신 주간 영역 수로 계산
+ *          2026-10-18
+ *          18. 챌린지 상세 지도의 색깔, 칸을 회원 별 조회 대신 UC 일괄 조회, 회원 id IN 조회 한 번으로 작성
+ *          2026-10-18
+ *          19. 완료된 챌린지 랭킹은 저장된 최종 결과에서 조회, 진행 대기 중인 챌린지 랭킹은 조회 없이 모두 0점
+ *          2026-10-18
  */
 
 @Slf4j
@@ -49,9 +101,21 @@ public class ChallengeServiceImpl implements ChallengeService {
     private final UserRepository userRepository;
     private final ChallengeRepository challengeRepository;
     private final UserChallengeRepository userChallengeRepository;
+    private final ChallengeResultRepository challengeResultRepository;
+    private final ChallengeScoreRepository challengeScoreRepository;
+    private final ChallengeScoreService challengeScoreService;
     private final ExerciseRecordRepository exerciseRecordRepository;
     private final MatrixService matrixService;
     private final MatrixRepository matrixRepository;
+    private final TerritoryService territoryService;
+    private final MatrixStreamRepository matrixStreamRepository;
+    private final MatrixStreamWriter matrixStreamWriter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SingleFlight singleFlight;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${challenge.chunk-size:500}")
+    private int chunkSize; //스케줄러에서 한 트랜잭션에 처리하는 챌린지 수
 
     /*챌린지 생성*/
     @Transactional
@@ -148,92 +212,207 @@ public class ChallengeServiceImpl implements ChallengeService {
         //상태 변경
         userChallenge.changeStatus(status);
 
+        //진행 중인 챌린지는 참여 회원들의 메인화면에 보임
+        if (challenge.getStatus() == ChallengeStatus.Progress) {
+            eventPublisher.publishEvent(new HomeChangedEvent(toUserIds(userChallengeRepository.findUCByChallenge(challenge))));
+        }
+
         return status;
     }
 
-    /*챌린지 상태 변경(매일 00:00 실행)*/
-    @Transactional
+    /*챌린지 상태 변경(매일 00:00 실행): 시작일이 오늘인 챌린지를 chunk 단위로 처리 (chunk 마다 커밋)*/
     @Scheduled(cron = "0 0 0 * * *")
     public void startPeriodChallenge() {
-        //챌린지 시작일이 오늘인 챌린지 리스트
-        List<Challenge> challenges = challengeRepository.findChallengesNotStarted(LocalDate.now());
+        //챌린지 시작일이 오늘인 챌린지 id 리스트
+        List<Long> challengeIds = challengeRepository.findChallengeIdsNotStarted(LocalDate.now());
         int countDelete = 0; //삭제된 챌린지 수
         int countUser = 0; //삭제된 유저 수
         int countProgress = 0; // 진행 상태로 바뀐 챌린지 수
 
-        for (Challenge challenge : challenges) {
-            //Wait, Reject 상태의 유저 삭제
-            countUser += userChallengeRepository.deleteUCByChallenge(challenge);
+        for (int from = 0; from < challengeIds.size(); from += chunkSize) {
+            List<Long> chunk = challengeIds.subList(from, Math.min(from + chunkSize, challengeIds.size()));
+            int[] counts = transactionTemplate.execute(status -> startChallenges(chunk));
 
-            List<UserChallenge> userChallenges = userChallengeRepository.findUCByChallenge(challenge);
-
-            //주최자만 남은 경우 챌린지와 주최자 삭제
-            if (userChallenges.size() == 1) {
-                userChallengeRepository.delete(userChallenges.get(0));
-                challengeRepository.delete(challenge);
-                countDelete++;
-            }
-            //챌린지 진행 상태로 변경
-            else {
-                for (UserChallenge userChallenge : userChallenges) {
-                    if (userChallenge.getStatus() != ChallengeStatus.Master)
-                        userChallenge.changeStatus(ChallengeStatus.Progress);
-                }
-                challenge.updateStatus(ChallengeStatus.Progress);
-            }
+            countDelete += counts[0];
+            countUser += counts[1];
+            countProgress += counts[2];
         }
 
         log.info("**챌린지 시작 메소드 실행** 현재 시간:{} | 삭제된 챌린지 개수:{} | 삭제된 유저 수:{} | 진행 상태로 바뀐 챌린지 개수:{}",
                 LocalDateTime.now(), countDelete, countUser, countProgress);
     }
 
-    /*일주일 챌린지 마감(매주 일요일 오후 11시 59분 50초 실행)*/
-    @Transactional
+    /*챌린지 시작(chunk): [삭제된 챌린지 수, 삭제된 유저 수, 진행 상태로 바뀐 챌린지 수]*/
+    private int[] startChallenges(List<Long> challengeIds) {
+        //Wait, Reject 상태의 유저 삭제
+        int countUser = userChallengeRepository.deleteNotAcceptedUCs(challengeIds);
+
+        //주최자만 남은 경우 챌린지와 주최자 삭제
+        Set<Long> soloIds = new HashSet<>(userChallengeRepository.findSoloChallengeIds(challengeIds));
+        if (!soloIds.isEmpty()) {
+            userChallengeRepository.deleteByChallengeIds(soloIds);
+            challengeRepository.deleteByIds(soloIds);
+        }
+
+        //챌린지 진행 상태로 변경
+        List<Long> progressIds = new ArrayList<>();
+        for (Long challengeId : challengeIds) {
+            if (!soloIds.contains(challengeId)) progressIds.add(challengeId);
+        }
+        if (!progressIds.isEmpty()) {
+            userChallengeRepository.updateMemberStatus(progressIds, ChallengeStatus.Progress);
+            challengeRepository.updateStatusByIds(progressIds, ChallengeStatus.Progress);
+
+            //커밋 후 참여 회원들의 메인화면 무효화
+            eventPublisher.publishEvent(new HomeChangedEvent(userChallengeRepository.findUserIdsByChallengeIds(progressIds)));
+        }
+
+        return new int[]{soloIds.size(), countUser, progressIds.size()};
+    }
+
+    /*일주일 챌린지 마감(매주 일요일 오후 11시 59분 50초 실행): 진행 중, 대기 중인 챌린지를 chunk 단위로 처리 (chunk 마다 커밋)*/
     @Scheduled(cron = "50 59 23 * * 0")
     public void endPeriodChallenge() {
-        //진행 중인 챌린지 모두 조회
-        List<Challenge> challenges = challengeRepository.findChallengesByStatusEquals(ChallengeStatus.Progress);
-        List<Challenge> waitChallenge = challengeRepository.findChallengesByStatusEquals(ChallengeStatus.Wait);
+        //진행 중, 대기 중인 챌린지 id 리스트
+        List<Long> challengeIds = challengeRepository.findChallengeIdsNotDone();
+        int countResult = 0; //최종 결과를 저장한 챌린지 수
 
-        challenges.addAll(waitChallenge);
+        for (int from = 0; from < challengeIds.size(); from += chunkSize) {
+            List<Long> chunk = challengeIds.subList(from, Math.min(from + chunkSize, challengeIds.size()));
+            countResult += transactionTemplate.execute(status -> closeChallenges(chunk));
+        }
 
-        for (Challenge challenge : challenges) {
-            //챌린지 완료
+        log.info("**챌린지 종료 메소드 실행** 현재 시간:{} | 종료된 챌린지 개수:{} | 결과를 저장한 챌린지 개수:{}",
+                LocalDateTime.now(), challengeIds.size(), countResult);
+    }
 
-            challenge.updateStatus(ChallengeStatus.Done);
+    /*챌린지 종료(chunk): 챌린지의 최종 결과 저장 후 완료 상태로 변경, 결과를 저장한 챌린지 수 반환*/
+    private int closeChallenges(List<Long> challengeIds) {
+        //챌린지 별 참여 회원
+        Map<Challenge, List<User>> membersByChallenge = findMembersByChallenge(challengeIds);
 
-            //각 유저들도 완료 상태 변경
-            List<UserChallenge> userChallenges = userChallengeRepository.findUCByChallenge(challenge);
+        //최종 결과 저장 (이후 일괄 변경 쿼리가 영속성 컨텍스트를 비우므로 먼저 flush)
+        challengeResultRepository.saveAllAndFlush(calculateFinalResults(membersByChallenge));
+
+        //진행 중에만 사용하는 점수 삭제
+        challengeScoreRepository.deleteByChallengeIds(challengeIds);
+
+        //챌린지, 회원들 완료 상태로 변경 (주최자는 MasterDone)
+        userChallengeRepository.updateMemberStatus(challengeIds, ChallengeStatus.Done);
+        userChallengeRepository.updateMasterStatus(challengeIds, ChallengeStatus.MasterDone);
+        challengeRepository.updateStatusByIds(challengeIds, ChallengeStatus.Done);
+
+        //커밋 후 진행 중이던 챌린지 회원들의 메인화면 무효화 (조회한 챌린지는 변경 전 상태)
+        Set<Long> changedUserIds = new HashSet<>();
+        membersByChallenge.forEach((challenge, members) -> {
+            if (challenge.getStatus() == ChallengeStatus.Progress) {
+                members.forEach(member -> changedUserIds.add(member.getId()));
+            }
+        });
+        eventPublisher.publishEvent(new HomeChangedEvent(changedUserIds));
+
+        return membersByChallenge.size();
+    }
+
+    /*최종 결과가 저장되기 전에 완료된 챌린지의 결과 채우기(backfill): 결과를 저장한 챌린지 수 반환*/
+    @Transactional
+    public int backfillChallengeResults() {
+        List<Long> challengeIds = challengeRepository.findDoneChallengeIdsWithoutResult();
+        int countResult = 0;
+
+        for (int from = 0; from < challengeIds.size(); from += chunkSize) {
+            List<Long> chunk = challengeIds.subList(from, Math.min(from + chunkSize, challengeIds.size()));
+            Map<Challenge, List<User>> membersByChallenge = findMembersByChallenge(chunk);
+            challengeResultRepository.saveAllAndFlush(calculateFinalResults(membersByChallenge));
+            countResult += membersByChallenge.size();
+        }
+        return countResult;
+    }
+
+    /*챌린지들의 참여 회원 (UC 한 번에 조회)*/
+    private Map<Challenge, List<User>> findMembersByChallenge(List<Long> challengeIds) {
+        Map<Challenge, List<User>> membersByChallenge = new LinkedHashMap<>();
+        for (UserChallenge uc : userChallengeRepository.findUCsByChallengeIdsWithMembers(challengeIds)) {
+            membersByChallenge.computeIfAbsent(uc.getChallenge(), c -> new ArrayList<>()).add(uc.getUser());
+        }
+        return membersByChallenge;
+    }
 
-            for (UserChallenge userChallenge : userChallenges) {
-                if (userChallenge.getStatus() == ChallengeStatus.Master)
-                    userChallenge.changeStatus(ChallengeStatus.MasterDone);
-                else
-                    userChallenge.changeStatus(ChallengeStatus.Done);
+    /*챌린지들의 최종 결과 계산: 종류, 시작 날짜가 같은 챌린지들은 회원들의 점수를 한 번에 조회*/
+    private List<ChallengeResult> calculateFinalResults(Map<Challenge, List<User>> membersByChallenge) {
+        Map<Map.Entry<ChallengeType, LocalDate>, List<Challenge>> groups = new HashMap<>();
+        for (Challenge challenge : membersByChallenge.keySet()) {
+            groups.computeIfAbsent(Map.entry(challenge.getType(), challenge.getStarted()), key -> new ArrayList<>()).add(challenge);
+        }
+
+        List<ChallengeResult> results = new ArrayList<>();
+        for (Map.Entry<Map.Entry<ChallengeType, LocalDate>, List<Challenge>> group : groups.entrySet()) {
+            ChallengeType type = group.getKey().getKey();
+            LocalDate started = group.getKey().getValue(); //챌린지 시작 날짜
+            LocalDate ended = started.plusDays(7 - started.getDayOfWeek().getValue()); //챌린지 끝나는 날(해당 주 일요일)
+
+            Set<Long> memberIds = new HashSet<>();
+            for (Challenge challenge : group.getValue()) {
+                membersByChallenge.get(challenge).forEach(member -> memberIds.add(member.getId()));
             }
+
+            //점수: 넓히기 - 영역의 수, 기록하기 - 칸의 수
+            Map<Long, Long> scores = type == ChallengeType.Widen
+                    ? matrixService.findAreaCounts(memberIds, started.atStartOfDay(), ended.atTime(LocalTime.MAX))
+                    : findMatrixCounts(memberIds, started.atStartOfDay(), ended.atTime(LocalTime.MAX));
+
+            for (Challenge challenge : group.getValue()) {
+                results.addAll(toFinalResults(challenge, membersByChallenge.get(challenge), scores));
+            }
+        }
+        return results;
+    }
+
+    /*챌린지의 최종 결과 (점수 내림차순, 동점은 같은 순위)*/
+    private List<ChallengeResult> toFinalResults(Challenge challenge, List<User> members, Map<Long, Long> scores) {
+        List<User> sorted = new ArrayList<>(members);
+        sorted.sort((a, b) -> Long.compare(scores.getOrDefault(b.getId(), 0L), scores.getOrDefault(a.getId(), 0L)));
+
+        List<ChallengeResult> results = new ArrayList<>();
+        int rank = 1;
+        for (int i = 0; i < sorted.size(); i++) {
+            long score = scores.getOrDefault(sorted.get(i).getId(), 0L);
+            if (i > 0 && score != results.get(i - 1).getScore()) rank = i + 1;
+            results.add(new ChallengeResult(challenge, sorted.get(i), score, rank));
         }
+        return results;
+    }
+
+    /*회원별 기간 내 칸의 수 조회 (기록이 없는 회원은 결과에 없음)*/
+    private Map<Long, Long> findMatrixCounts(Collection<Long> userIds, LocalDateTime start, LocalDateTime end) {
+        Map<Long, Long> matrixCounts = new HashMap<>();
+        if (userIds.isEmpty()) return matrixCounts;
 
-        log.info("**챌린지 종료 메소드 실행** 현재 시간:{} | 종료된 챌린지 개수:{}", LocalDateTime.now(), challenges.size());
+        for (MatrixQueryDto.UserCount count : matrixRepository.findMatrixCountsBetween(userIds, start, end)) {
+            matrixCounts.put(count.getUserId(), count.getCount());
+        }
+        return matrixCounts;
     }
 
-    /*초대 받은 챌린지 조회*/
+    /*초대 받은 챌린지 조회: 챌린지 수와 상관없이 회원, 주최자 UC 2번 조회*/
     public List<ChallengeResponseDto.Invite> findInviteChallenge(String nickname) {
         User user = userRepository.findByNickname(nickname).orElseThrow(
                 () -> new CNotFoundException(CommonErrorCode.NOT_FOUND_USER));
 
-        List<Challenge> challenges = challengeRepository.findChallengeInWait(user);
         List<ChallengeResponseDto.Invite> response = new ArrayList<>();
 
-        for (Challenge challenge : challenges) {
+        for (UserChallenge masterUC : userChallengeRepository.findInvitedChallengeMasterUCs(user)) {
+            Challenge challenge = masterUC.getChallenge();
+            User master = masterUC.getUser();
 
             response.add(
                     ChallengeResponseDto.Invite.builder()
                             .name(challenge.getName())
                             .uuid(challenge.getUuid())
-                            .InviterNickname(userChallengeRepository.findMasterInChallenge(challenge).getNickname())
+                            .InviterNickname(master.getNickname())
                             .message(challenge.getMessage())
                             .created(challenge.getCreated().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")))
-                            .picturePath(userChallengeRepository.findMasterInChallenge(challenge).getPicturePath())
+                            .picturePath(master.getPicturePath())
                             .build()
             );
         }
@@ -241,20 +420,26 @@ public class ChallengeServiceImpl implements ChallengeService {
         return response;
     }
 
-    /*진행 대기 중인 챌린지 리스트 조회*/
+    /*진행 대기 중인 챌린지 리스트 조회: 챌린지 수와 상관없이 회원, 챌린지들의 UC 2번 조회*/
     public List<ChallengeResponseDto.Wait> findWaitChallenge(String nickname) {
         User user = userRepository.findByNickname(nickname).orElseThrow(
                 () -> new CNotFoundException(CommonErrorCode.NOT_FOUND_USER));
 
-        List<Challenge> waitChallenge = challengeRepository.findWaitChallenge(user);
+        Map<Challenge, List<UserChallenge>> ucsByChallenge = groupByChallenge(userChallengeRepository.findWaitChallengeUCs(user));
         List<ChallengeResponseDto.Wait> response = new ArrayList<>();
 
-        for (Challenge challenge : waitChallenge) {
+        for (Map.Entry<Challenge, List<UserChallenge>> entry : ucsByChallenge.entrySet()) {
+            Challenge challenge = entry.getKey();
             LocalDate started = challenge.getStarted();
             List<String> picturePaths = new ArrayList<>();  // 유저의 프로필 사진
+            int readyCount = 0; //Progress 상태 회원 수 + 주최자
+            ChallengeColor color = null;
 
-            userChallengeRepository.findChallengeUsers(challenge)
-                    .forEach(u -> picturePaths.add(u.getPicturePath()));
+            for (UserChallenge uc : entry.getValue()) {
+                picturePaths.add(uc.getUser().getPicturePath());
+                if (uc.getStatus() == ChallengeStatus.Progress || uc.getStatus() == ChallengeStatus.Master) readyCount++;
+                if (uc.getUser().getId().equals(user.getId())) color = uc.getColor();
+            }
 
             response.add(
                     ChallengeResponseDto.Wait.builder()
@@ -262,9 +447,9 @@ public class ChallengeServiceImpl implements ChallengeService {
                             .uuid(challenge.getUuid())
                             .started(started)
                             .ended(started.plusDays(7 - started.getDayOfWeek().getValue()))
-                            .totalCount(userChallengeRepository.findUCCount(challenge)) //챌린지에 참여하는 전체 인원 수
-                            .readyCount(userChallengeRepository.findUCReadyCount(challenge)) //Progress 상태 회원 수 + 주최자
-                            .color(userChallengeRepository.findChallengeColor(user, challenge))
+                            .totalCount(entry.getValue().size()) //챌린지에 참여하는 전체 인원 수
+                            .readyCount(readyCount)
+                            .color(color)
                             .picturePaths(picturePaths)
                             .build()
             );
@@ -273,41 +458,52 @@ public class ChallengeServiceImpl implements ChallengeService {
         return response;
     }
 
-    /*진행 중인 챌린지 리스트 조회*/
+    /*진행 중인 챌린지 리스트 조회 (같은 회원의 조회가 진행 중이면 그 결과를 함께 사용)*/
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<ChallengeResponseDto.Progress> findProgressChallenge(String nickname) {
+        return singleFlight.execute("challenge/progress:" + nickname,
+                () -> transactionTemplate.execute(status -> loadProgressChallenge(nickname)));
+    }
+
+    /*챌린지 수와 상관없이 회원, 챌린지들의 UC, 챌린지들의 점수 3번 조회*/
+    private List<ChallengeResponseDto.Progress> loadProgressChallenge(String nickname) {
         User user = userRepository.findByNickname(nickname).orElseThrow(
                 () -> new CNotFoundException(CommonErrorCode.NOT_FOUND_USER));
 
-        List<Challenge> progressChallenge = challengeRepository.findProgressChallenge(user);
+        Map<Challenge, List<UserChallenge>> ucsByChallenge = groupByChallenge(userChallengeRepository.findProgressChallengeUCs(user));
+
+        //챌린지 별 참여 회원
+        Map<Challenge, List<User>> membersByChallenge = new LinkedHashMap<>();
+        ucsByChallenge.forEach((challenge, ucs) -> {
+            List<User> members = new ArrayList<>();
+            ucs.forEach(uc -> members.add(uc.getUser()));
+            membersByChallenge.put(challenge, members);
+        });
+
+        //현재까지의 순위 (저장된 점수로 종료 시와 같은 방식으로 계산, 저장x)
+        List<Long> challengeIds = new ArrayList<>();
+        membersByChallenge.keySet().forEach(challenge -> challengeIds.add(challenge.getId()));
+        Map<Long, Map<Long, Long>> scores = challengeScoreService.getScores(challengeIds);
+
+        Map<Challenge, List<ChallengeResult>> rankingsByChallenge = new HashMap<>();
+        membersByChallenge.forEach((challenge, members) -> rankingsByChallenge.put(challenge,
+                toFinalResults(challenge, members, scores.getOrDefault(challenge.getId(), Map.of()))));
+
         List<ChallengeResponseDto.Progress> response = new ArrayList<>();
 
-        for (Challenge challenge : progressChallenge) {
+        for (Map.Entry<Challenge, List<UserChallenge>> entry : ucsByChallenge.entrySet()) {
+            Challenge challenge = entry.getKey();
             Integer rank = -1; //랭킹
             LocalDate started = challenge.getStarted(); //챌린지 시작 날짜
             List<String> picturePaths = new ArrayList<>(); // 유저들의 프로필 사진
+            ChallengeColor color = null;
 
             //해당 회원의 랭킹 추출
-            if (challenge.getType() == ChallengeType.Widen) {
-                RankResponseDto.Area rankList = matrixService.challengeRank(challenge, started.atStartOfDay(), LocalDateTime.now());
-
-                for (UserResponseDto.Ranking ranking : rankList.getAreaRankings()) {
-                    if (ranking.getNickname().equals(nickname)) {
-                        rank = ranking.getRank();
-                    }
-                    picturePaths.add(ranking.getPicturePath());
-                }
-            } else if (challenge.getType() == ChallengeType.Accumulate) {
-                //챌린지를 함께 진행하는 회원 목록
-                List<User> member = userChallengeRepository.findChallengeUsers(challenge);
-                //기록 조회
-                List<Tuple> matrixCount = exerciseRecordRepository.findMatrixCount(member, started.atStartOfDay(), LocalDateTime.now());
-                //랭킹 계산
-                for (UserResponseDto.Ranking ranking : matrixService.calculateMatrixRank(matrixCount, member)) {
-                    if (ranking.getNickname().equals(nickname)) {
-                        rank = ranking.getRank();
-                    }
-                    picturePaths.add(ranking.getPicturePath());
+            for (ChallengeResult ranking : rankingsByChallenge.getOrDefault(challenge, List.of())) {
+                if (ranking.getUser().getId().equals(user.getId())) {
+                    rank = ranking.getRank();
                 }
+                picturePaths.add(ranking.getUser().getPicturePath());
             }
 
             //랭킹이 -1인 경우 예외 처리
@@ -315,6 +511,10 @@ public class ChallengeServiceImpl implements ChallengeService {
                 throw new CNotValidationException(CommonErrorCode.INTERNAL_SERVER_ERROR);
             }
 
+            for (UserChallenge uc : entry.getValue()) {
+                if (uc.getUser().getId().equals(user.getId())) color = uc.getColor();
+            }
+
             response.add(
                     ChallengeResponseDto.Progress.builder()
                             .name(challenge.getName())
@@ -322,7 +522,7 @@ public class ChallengeServiceImpl implements ChallengeService {
                             .started(started)
                             .ended(started.plusDays(7 - started.getDayOfWeek().getValue()))
                             .rank(rank)
-                            .color(userChallengeRepository.findChallengeColor(user, challenge))
+                            .color(color)
                             .picturePaths(picturePaths)
                             .build()
             );
@@ -331,7 +531,16 @@ public class ChallengeServiceImpl implements ChallengeService {
         return response;
     }
 
-    /*친구와 함께 진행 중인 챌린지 리스트 조회*/
+    /*UC 리스트를 챌린지 별로 묶기 (조회 순서 유지)*/
+    private Map<Challenge, List<UserChallenge>> groupByChallenge(List<UserChallenge> ucs) {
+        Map<Challenge, List<UserChallenge>> ucsByChallenge = new LinkedHashMap<>();
+        for (UserChallenge uc : ucs) {
+            ucsByChallenge.computeIfAbsent(uc.getChallenge(), c -> new ArrayList<>()).add(uc);
+        }
+        return ucsByChallenge;
+    }
+
+    /*친구와 함께 진행 중인 챌린지 리스트 조회: 챌린지 수와 상관없이 회원, 친구, 챌린지들의 UC, 챌린지들의 점수 4번 조회*/
     public List<ChallengeResponseDto.Progress> findProgressChallenge(String userNickname, String friendNickname) {
         User user = userRepository.findByNickname(userNickname).orElseThrow(
                 () -> new CNotFoundException(CommonErrorCode.NOT_FOUND_USER));
@@ -339,40 +548,34 @@ public class ChallengeServiceImpl implements ChallengeService {
         User friend = userRepository.findByNickname(friendNickname).orElseThrow(
                 () -> new CNotFoundException(CommonErrorCode.NOT_FOUND_USER));
 
-        List<Challenge> progressChallenge = challengeRepository.findChallengesWithFriend(user, friend);
+        //회원이 진행 중인 챌린지 중 친구도 참여하는 챌린지 (챌린지 id 오름차순), 회원의 색깔
+        List<Challenge> progressChallenge = new ArrayList<>();
+        Map<Challenge, ChallengeColor> colors = new HashMap<>();
+        groupByChallenge(userChallengeRepository.findProgressChallengeUCs(user)).forEach((challenge, ucs) -> {
+            boolean withFriend = false;
+            for (UserChallenge uc : ucs) {
+                if (uc.getUser().getId().equals(friend.getId())) withFriend = true;
+                if (uc.getUser().getId().equals(user.getId())) colors.put(challenge, uc.getColor());
+            }
+            if (withFriend) progressChallenge.add(challenge);
+        });
+        progressChallenge.sort(Comparator.comparing(Challenge::getId));
+
+        List<Long> challengeIds = new ArrayList<>();
+        progressChallenge.forEach(challenge -> challengeIds.add(challenge.getId()));
+        Map<Long, Map<Long, Long>> scores = challengeScoreService.getScores(challengeIds);
+
         List<ChallengeResponseDto.Progress> response = new ArrayList<>();
 
         for (Challenge challenge : progressChallenge) {
-            Integer rank = -1; //랭킹
             LocalDate started = challenge.getStarted(); //챌린지 시작 날짜
 
-            //해당 회원(친구)의 랭킹 추출
-            if (challenge.getType() == ChallengeType.Widen) {
-                RankResponseDto.Area rankList = matrixService.challengeRank(challenge, started.atStartOfDay(), LocalDateTime.now());
-
-                for (UserResponseDto.Ranking ranking : rankList.getAreaRankings()) {
-                    if (ranking.getNickname().equals(friendNickname)) {
-                        rank = ranking.getRank();
-                        break;
-                    }
-                }
-            } else if (challenge.getType() == ChallengeType.Accumulate) {
-                //챌린지를 함께 진행하는 회원 목록
-                List<User> member = userChallengeRepository.findChallengeUsers(challenge);
-                //기록 조회
-                List<Tuple> matrixCount = exerciseRecordRepository.findMatrixCount(member, started.atStartOfDay(), LocalDateTime.now());
-                //랭킹 계산
-                for (UserResponseDto.Ranking ranking : matrixService.calculateMatrixRank(matrixCount, member)) {
-                    if (ranking.getNickname().equals(friendNickname)) {
-                        rank = ranking.getRank();
-                        break;
-                    }
-                }
-            }
-
-            //랭킹이 -1인 경우 예외 처리
-            if (rank == -1) {
-                throw new CNotValidationException(CommonErrorCode.INTERNAL_SERVER_ERROR);
+            //해당 회원(친구)의 랭킹: 친구보다 점수가 높은 회원 수 + 1 (점수가 없는 회원은 0점)
+            Map<Long, Long> challengeScores = scores.getOrDefault(challenge.getId(), Map.of());
+            long friendScore = challengeScores.getOrDefault(friend.getId(), 0L);
+            int rank = 1;
+            for (Long score : challengeScores.values()) {
+                if (score > friendScore) rank++;
             }
 
             response.add(
@@ -382,7 +585,7 @@ public class ChallengeServiceImpl implements ChallengeService {
                             .started(started)
                             .ended(started.plusDays(7 - started.getDayOfWeek().getValue()))
                             .rank(rank)
-                            .color(userChallengeRepository.findChallengeColor(user, challenge))
+                            .color(colors.get(challenge))
                             .build()
             );
         }
@@ -390,46 +593,38 @@ public class ChallengeServiceImpl implements ChallengeService {
         return response;
     }
 
-    /*진행 완료된 챌린지 리스트 조회*/
+    /*진행 완료된 챌린지 리스트 조회: 챌린지 수와 상관없이 회원, 최종 결과, 색깔 3번 조회*/
     public List<ChallengeResponseDto.Done> findDoneChallenge(String nickname) {
         User user = userRepository.findByNickname(nickname).orElseThrow(
                 () -> new CNotFoundException(CommonErrorCode.NOT_FOUND_USER));
 
-        List<Challenge> doneChallenge = challengeRepository.findDoneChallenge(user);
+        //완료된 챌린지 별 최종 결과 (챌린지 시작 날짜, 순위 오름차순)
+        Map<Challenge, List<ChallengeResult>> resultsByChallenge = new LinkedHashMap<>();
+        for (ChallengeResult result : challengeResultRepository.findDoneResultsWithMembers(user)) {
+            resultsByChallenge.computeIfAbsent(result.getChallenge(), c -> new ArrayList<>()).add(result);
+        }
+
+        //완료된 챌린지 별 색깔
+        Map<Long, ChallengeColor> colors = new HashMap<>();
+        for (Tuple tuple : userChallengeRepository.findDoneChallengeColors(user)) {
+            colors.put(tuple.get(0, Long.class), tuple.get(1, ChallengeColor.class));
+        }
+
         List<ChallengeResponseDto.Done> response = new ArrayList<>();
-        List<String> picturePaths = new ArrayList<>(); // 유저들의 프로필 사진
 
-        for (Challenge challenge : doneChallenge) {
+        for (Map.Entry<Challenge, List<ChallengeResult>> entry : resultsByChallenge.entrySet()) {
+            Challenge challenge = entry.getKey();
 
             Integer rank = -1; //랭킹
             LocalDate started = challenge.getStarted(); //챌린지 시작 날짜
+            List<String> picturePaths = new ArrayList<>(); // 유저들의 프로필 사진
+
             //해당 회원의 랭킹 추출
-            if (challenge.getType() == ChallengeType.Widen) {
-                RankResponseDto.Area rankList = matrixService.challengeRank(challenge, started.atStartOfDay(), LocalDateTime.now());
-
-                for (UserResponseDto.Ranking ranking : rankList.getAreaRankings()) {
-                    if (ranking.getNickname().equals(nickname)) {
-                        rank = ranking.getRank();
-                    }
-                    picturePaths.add(ranking.getPicturePath());
-                }
-            } else if (challenge.getType() == ChallengeType.Accumulate) {
-                //챌린지를 함께 진행하는 회원 목록
-                List<User> member = userChallengeRepository.findChallengeUsers(challenge);
-                //기록 조회
-                List<Tuple> matrixCount = exerciseRecordRepository.findMatrixCount(member, started.atStartOfDay(), LocalDateTime.now());
-                //랭킹 계산
-                for (UserResponseDto.Ranking ranking : matrixService.calculateMatrixRank(matrixCount, member)) {
-                    if (ranking.getNickname().equals(nickname)) {
-                        rank = ranking.getRank();
-                    }
-                    picturePaths.add(ranking.getPicturePath());
+            for (ChallengeResult result : entry.getValue()) {
+                if (result.getUser().getId().equals(user.getId())) {
+                    rank = result.getRank();
                 }
-            }
-
-            //랭킹이 -1인 경우 예외 처리
-            if (rank == -1) {
-                throw new CNotValidationException(CommonErrorCode.INTERNAL_SERVER_ERROR);
+                picturePaths.add(result.getUser().getPicturePath());
             }
 
             response.add(
@@ -439,7 +634,7 @@ public class ChallengeServiceImpl implements ChallengeService {
                             .started(started)
                             .ended(started.plusDays(7 - started.getDayOfWeek().getValue()))
                             .rank(rank)
-                            .color(userChallengeRepository.findChallengeColor(user, challenge))
+                            .color(colors.get(challenge.getId()))
                             .picturePaths(picturePaths)
                             .build()
             );
@@ -480,10 +675,10 @@ public class ChallengeServiceImpl implements ChallengeService {
         }
 
         //영역 정보 조회
-        matrices = matrixRepository.findMatrixSetByRecords(records);
+        matrices = matrixRepository.findMatrixSetBetween(user.getId(), started.atStartOfDay(), ended.atTime(LocalTime.MAX));
 
-        //챌린지 타입에 따른 랭킹 정보(순위, 닉네임, 점수) 계산
-        rankings = calculateChallengeRanking(challenge, members, started, ended, challenge.getType());
+        //랭킹 정보(순위, 닉네임, 점수) 조회
+        rankings = findChallengeRanking(challenge, members);
 
         return ChallengeResponseDto.Detail.builder()
                 .name(challenge.getName())
@@ -526,78 +721,179 @@ public class ChallengeServiceImpl implements ChallengeService {
         return cInfoRes;
     }
 
-    /*챌린지 상세보기: 지도*/
+    /*챌린지 상세보기: 지도 (회원 수와 상관없이 UC, 칸 1번씩 조회)*/
     public ChallengeMapResponseDto.Detail getChallengeDetailMap(String uuid) {
         Challenge challenge = challengeRepository.findByUuid(uuid).orElseThrow(
                 () -> new CNotFoundException(CommonErrorCode.NOT_FOUND_CHALLENGE));
 
-        //챌린지 참여 인원 조회
-        List<User> members = userChallengeRepository.findChallengeUsers(challenge);
+        //챌린지 참여 회원, 색깔 조회
+        List<UserChallenge> memberUCs = findMemberUCs(challenge);
+        List<User> members = new ArrayList<>();
+        memberUCs.forEach(uc -> members.add(uc.getUser()));
 
         //필요한 변수 선언
         List<ChallengeMapResponseDto.UserMapInfo> matrixList = new ArrayList<>();
         List<UserResponseDto.Ranking> rankings = new ArrayList<>();
-        List<ExerciseRecord> records;
 
         LocalDate started = challenge.getStarted(); //챌린지 시작 날짜
         LocalDate ended = started.plusDays(7 - started.getDayOfWeek().getValue()); //챌린지 끝나는 날(해당 주 일요일)
 
-        //챌린지 타입에 따른 결과 저장
-        if (challenge.getType().equals(ChallengeType.Widen)) {
-            for (User member : members) {
-                ChallengeColor color = userChallengeRepository.findChallengeColor(member, challenge);
+        //회원들의 챌린지 기간동안의 개인 영역 기록
+        List<Long> memberIds = new ArrayList<>();
+        members.forEach(member -> memberIds.add(member.getId()));
+        Map<Long, List<MatrixDto>> matricesByMember = new HashMap<>();
+        for (MatrixQueryDto.UserCell cell : matrixRepository.findUserCellsBetween(memberIds, started.atStartOfDay(), ended.atTime(LocalTime.MAX))) {
+            matricesByMember.computeIfAbsent(cell.getUserId(), id -> new ArrayList<>()).add(new MatrixDto(cell.getCellKey()));
+        }
 
-                //각 유저의 챌린지 기간동안의 기록
-                records = exerciseRecordRepository.findRecord(member.getId(), started.atStartOfDay(), ended.atTime(LocalTime.MAX));
-                //개인 영역 기록 저장
-                List<MatrixDto> matrixSetByRecord = matrixRepository.findMatrixSetByRecords(records);
-                matrixList.add(
-                        new ChallengeMapResponseDto.UserMapInfo(color, member.getLatitude(), member.getLongitude(), matrixSetByRecord, member.getPicturePath())
-                );
+        for (UserChallenge uc : memberUCs) {
+            User member = uc.getUser();
+            matrixList.add(
+                    new ChallengeMapResponseDto.UserMapInfo(uc.getColor(), member.getLatitude(), member.getLongitude(),
+                            matricesByMember.getOrDefault(member.getId(), new ArrayList<>()), member.getPicturePath())
+            );
+        }
 
-                //랭킹 리스트에 추가
-                rankings.add(new UserResponseDto.Ranking(1, member.getNickname(),
-                        (long) matrixRepository.findMatrixSetByRecords(records).size(), member.getPicturePath()));
+        //랭킹 조회
+        rankings = findChallengeRanking(challenge, members);
+
+        return new ChallengeMapResponseDto.Detail(matrixList, rankings);
+    }
+
+    /*챌린지 상세보기: 지도 (칸 리스트는 메모리에 모으지 않고 응답에 바로 작성)*/
+    public StreamingResponseBody getChallengeDetailMapStream(String uuid) {
+        Challenge challenge = challengeRepository.findByUuid(uuid).orElseThrow(
+                () -> new CNotFoundException(CommonErrorCode.NOT_FOUND_CHALLENGE));
+
+        //챌린지 참여 회원, 색깔 조회
+        List<UserChallenge> memberUCs = findMemberUCs(challenge);
+        List<User> members = new ArrayList<>();
+        memberUCs.forEach(uc -> members.add(uc.getUser()));
+
+        LocalDate started = challenge.getStarted(); //챌린지 시작 날짜
+        LocalDate ended = started.plusDays(7 - started.getDayOfWeek().getValue()); //챌린지 끝나는 날(해당 주 일요일)
+        LocalDateTime start = started.atStartOfDay();
+        LocalDateTime end = ended.atTime(LocalTime.MAX);
+
+        //칸 리스트를 제외한 회원 정보
+        List<Long> memberIds = new ArrayList<>();
+        List<ChallengeMapResponseDto.UserMapInfo> infos = new ArrayList<>();
+        for (UserChallenge uc : memberUCs) {
+            User member = uc.getUser();
+            memberIds.add(member.getId());
+            infos.add(new ChallengeMapResponseDto.UserMapInfo(uc.getColor(), member.getLatitude(), member.getLongitude(), null, member.getPicturePath()));
+        }
+
+        //랭킹 조회
+        List<UserResponseDto.Ranking> rankings = findChallengeRanking(challenge, members);
+        List<UserResponseDto.Ranking> rankingList = rankings;
+
+        return out -> {
+            try (JsonGenerator gen = matrixStreamWriter.createGenerator(out)) {
+                gen.writeStartObject();
+                gen.writeArrayFieldStart("matrixList");
+                writeMemberMatrices(gen, memberIds, infos, start, end);
+                gen.writeEndArray();
+                gen.writeObjectField("rankingList", rankingList);
+                gen.writeEndObject();
             }
-            //랭킹 정렬
-            rankings = matrixService.calculateAreaRank(rankings);
-        } else if (challenge.getType().equals(ChallengeType.Accumulate)) {
-            for (User user : members) {
-                //matrixList 값 채우기
-                ChallengeColor color = userChallengeRepository.findChallengeColor(user, challenge);
+        };
+    }
 
-                //개인 기록 계산
-                records = exerciseRecordRepository.findRecord(user.getId(), started.atStartOfDay(), ended.atTime(LocalTime.MAX));
-                List<MatrixDto> matrixSetByRecord = matrixRepository.findMatrixSetByRecords(records);
+    /*챌린지 참여 회원의 UC (회원 id 순)*/
+    private List<UserChallenge> findMemberUCs(Challenge challenge) {
+        List<UserChallenge> memberUCs = new ArrayList<>(userChallengeRepository.findUCsByChallengeIdsWithMembers(List.of(challenge.getId())));
+        memberUCs.sort(Comparator.comparing(uc -> uc.getUser().getId()));
+        return memberUCs;
+    }
 
-                matrixList.add(
-                        new ChallengeMapResponseDto.UserMapInfo(color, user.getLatitude(), user.getLongitude(), matrixSetByRecord, user.getPicturePath())
-                );
+    /*회원들의 칸 리스트 작성: 회원 id 순으로 오는 칸을 한 번의 조회로 받아서, 회원이 바뀔 때 이전 회원을 닫고 다음 회원을 열기*/
+    private void writeMemberMatrices(JsonGenerator gen, List<Long> memberIds, List<ChallengeMapResponseDto.UserMapInfo> infos,
+                                     LocalDateTime start, LocalDateTime end) throws IOException {
+        int[] open = {-1}; //칸을 작성 중인 회원 index
+        matrixStreamRepository.streamUserCellsBetween(memberIds, start, end, (userId, cellKey) -> {
+            try {
+                while (open[0] < 0 || memberIds.get(open[0]) != userId) {
+                    if (open[0] >= 0) matrixStreamWriter.endWithMatrices(gen);
+                    matrixStreamWriter.startWithMatrices(gen, infos.get(++open[0]));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
             }
-            //랭킹 계산
-            //모든 회원의 칸 수 기록을 Tuple[닉네임, 이번주 누적 칸수] 내림차순으로 정리
-            List<Tuple> matrixCount = exerciseRecordRepository.findMatrixCount(members, started.atStartOfDay(), ended.atTime(LocalTime.MAX));
-            rankings = matrixService.calculateMatrixRank(matrixCount, members);
+            matrixStreamWriter.writeMatrix(gen, cellKey);
+        });
+
+        //마지막으로 작성한 회원 닫기, 칸이 없는 나머지 회원은 빈 리스트
+        if (open[0] >= 0) matrixStreamWriter.endWithMatrices(gen);
+        for (int i = open[0] + 1; i < infos.size(); i++) {
+            matrixStreamWriter.startWithMatrices(gen, infos.get(i));
+            matrixStreamWriter.endWithMatrices(gen);
+        }
+    }
+
+    /*챌린지 랭킹: 진행 중인 챌린지는 저장된 점수, 완료된 챌린지는 저장된 최종 결과로 조회, 진행 대기 중인 챌린지는 모두 0점*/
+    private List<UserResponseDto.Ranking> findChallengeRanking(Challenge challenge, List<User> members) {
+        LocalDate started = challenge.getStarted(); //챌린지 시작 날짜
+        LocalDate ended = started.plusDays(7 - started.getDayOfWeek().getValue()); //챌린지 끝나는 날(해당 주 일요일)
+        List<UserResponseDto.Ranking> rankings = new ArrayList<>();
+
+        if (challenge.getStatus() == ChallengeStatus.Wait) {
+            //시작 전이라 기록이 반영되지 않음
+            for (User member : members) {
+                rankings.add(new UserResponseDto.Ranking(1, member.getNickname(), 0L, member.getPicturePath()));
+            }
+            return rankings;
         }
 
-        return new ChallengeMapResponseDto.Detail(matrixList, rankings);
+        if (challenge.getStatus() == ChallengeStatus.Done) {
+            //종료 시 저장된 순위, 점수 (최종 결과 backfill 전이라 결과가 없으면 챌린지 기간의 칸으로 계산)
+            List<ChallengeResult> results = challengeResultRepository.findByChallengeWithUser(challenge);
+            if (results.isEmpty()) return calculateChallengeRanking(challenge, members, started, ended, challenge.getType());
+
+            for (ChallengeResult result : results) {
+                User member = result.getUser();
+                rankings.add(new UserResponseDto.Ranking(result.getRank(), member.getNickname(), result.getScore(), member.getPicturePath()));
+            }
+            return rankings;
+        }
+
+        Map<Long, Long> scores = challengeScoreService.getScores(challenge.getId());
+        for (User member : members) {
+            rankings.add(new UserResponseDto.Ranking(1, member.getNickname(),
+                    scores.getOrDefault(member.getId(), 0L), member.getPicturePath()));
+        }
+        //랭킹 정렬 (동점은 같은 순위)
+        return matrixService.calculateAreaRank(rankings);
     }
 
     /*챌린지 종류에 따른 랭킹 계산 메소드*/
     public List<UserResponseDto.Ranking> calculateChallengeRanking(Challenge challenge, List<User> members,
                                                                    LocalDate started, LocalDate ended, ChallengeType type) {
 
-        List<ExerciseRecord> records = new ArrayList<>();
         List<UserResponseDto.Ranking> rankings = new ArrayList<>();
 
-        if (type.equals(ChallengeType.Widen)) {
+        if (type.equals(ChallengeType.Widen) && WeekUtil.isWholeWeek(started.atStartOfDay(), ended.atTime(LocalTime.MAX))) {
+            //월요일에 시작한 챌린지: 주간 집계의 영역 수
+            List<Long> memberIds = new ArrayList<>();
+            members.forEach(member -> memberIds.add(member.getId()));
+            Map<Long, Long> areaCounts = territoryService.getWeekAreaCounts(memberIds, WeekUtil.toWeek(started.atStartOfDay()));
+
             for (User member : members) {
-                //각 유저의 챌린지 기간동안의 기록
-                records = exerciseRecordRepository.findRecord(member.getId(), started.atStartOfDay(), ended.atTime(LocalTime.MAX));
+                rankings.add(new UserResponseDto.Ranking(1, member.getNickname(),
+                        areaCounts.get(member.getId()), member.getPicturePath()));
+            }
+            //랭킹 정렬
+            rankings = matrixService.calculateAreaRank(rankings);
+        } else if (type.equals(ChallengeType.Widen)) {
+            //각 유저의 챌린지 기간동안의 영역 수
+            List<Long> memberIds = new ArrayList<>();
+            members.forEach(member -> memberIds.add(member.getId()));
+            Map<Long, Long> areaCounts = matrixService.findAreaCounts(memberIds, started.atStartOfDay(), ended.atTime(LocalTime.MAX));
 
+            for (User member : members) {
                 //랭킹 리스트에 추가
                 rankings.add(new UserResponseDto.Ranking(1, member.getNickname(),
-                        (long) matrixRepository.findMatrixSetByRecords(records).size(), member.getPicturePath()));
+                        areaCounts.getOrDefault(member.getId(), 0L), member.getPicturePath()));
             }
             //랭킹 정렬
             rankings = matrixService.calculateAreaRank(rankings);
@@ -612,6 +908,7 @@ public class ChallengeServiceImpl implements ChallengeService {
     }
 
     /*챌린지 삭제*/
+    @Transactional
     public Boolean deleteChallenge(ChallengeRequestDto.CInfo request) {
         User user = userRepository.findByNickname(request.getNickname()).orElseThrow(
                 () -> new CNotFoundException(CommonErrorCode.NOT_FOUND_USER));
@@ -626,10 +923,26 @@ public class ChallengeServiceImpl implements ChallengeService {
         if (userChallenge.getStatus() != ChallengeStatus.Master) {
             return false;
         } else {
+            boolean wasProgress = challenge.getStatus() == ChallengeStatus.Progress;
+            //최종 결과, 점수 삭제 (일괄 삭제 쿼리가 영속성 컨텍스트를 비우므로 먼저 실행)
+            challengeResultRepository.deleteByChallenge(challenge);
+            challengeScoreRepository.deleteByChallengeIds(List.of(challenge.getId()));
+
             List<UserChallenge> userChallenges = userChallengeRepository.findUCByChallenge(challenge);
             userChallengeRepository.deleteAll(userChallenges);
             challengeRepository.delete(challenge);
+
+            if (wasProgress) eventPublisher.publishEvent(new HomeChangedEvent(toUserIds(userChallenges)));
             return true;
         }
     }
+
+    /*UC 목록의 회원 id*/
+    private List<Long> toUserIds(List<UserChallenge> userChallenges) {
+        List<Long> userIds = new ArrayList<>(userChallenges.size());
+        for (UserChallenge userChallenge : userChallenges) {
+            userIds.add(userChallenge.getUser().getId());
+        }
+        return userIds;
+    }
 }
\ No newline at end of file
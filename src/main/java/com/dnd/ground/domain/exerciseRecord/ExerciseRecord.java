@@ -16,12 +16,20 @@ import java.util.List;
  * @since   2022-07-27
  * @updated 1.Builder 추가
  *          -2022.10.02 박찬호
+ *          2.기록 저장 시간(created) 추가
+ *          3.칸 수, 칸 범위(bounding box) 추가
+ *          4.회원 - 시작 시간 인덱스 추가
+ *          5.칸 범위 기준 주석 수정 (칸 좌표의 최소, 최대)
+ *          -2026.10.18
  */
 
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name="exercise_record")
+@Table(name="exercise_record", indexes = {
+        @Index(name = "idx_exercise_record_user_created", columnList = "user_id, created"),
+        @Index(name = "idx_exercise_record_user_started", columnList = "user_id, started")
+})
 @Builder
 @Entity
 public class ExerciseRecord {
@@ -36,6 +44,10 @@ public class ExerciseRecord {
     @Column(nullable = false)
     private LocalDateTime ended;
 
+    // 서버에 기록이 저장된 시간 (메인화면 변경분 조회 기준)
+    @Column
+    private LocalDateTime created;
+
     @Column(nullable = false)
     private Integer distance;
 
@@ -48,6 +60,24 @@ public class ExerciseRecord {
     @Column(name = "record_message", columnDefinition = "varchar(100)")
     private String message;
 
+    // 칸 수 (기록 내 중복 제거된 칸이므로 영역 수와 같음)
+    @Column
+    private Integer matrixCount;
+
+    // 칸 범위: 칸 좌표(클라이언트가 보낸 칸의 기준 꼭지점)의 최소, 최대 (backfill 쿼리도 같은 기준)
+    // 칸 간격을 알 수 없어 칸 크기만큼 넓히지 않으므로, 최대 쪽 칸들의 나머지 면적은 범위 밖
+    @Column
+    private Double minLatitude;
+
+    @Column
+    private Double maxLatitude;
+
+    @Column
+    private Double minLongitude;
+
+    @Column
+    private Double maxLongitude;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -62,12 +92,25 @@ public class ExerciseRecord {
         this.ended = LocalDateTime.now();
         this.user = user;
         this.started = LocalDateTime.now()  ;
+        this.created = LocalDateTime.now();
+        this.matrixCount = 0;
     }
 
-    // 칸 추가
+    // 칸 추가 (칸 수, 칸 범위 갱신)
     public void addMatrix(Matrix matrix){
         this.matrices.add(matrix);
         matrix.belongRecord(this);
+
+        this.matrixCount = matrixCount == null ? 1 : matrixCount + 1;
+        this.minLatitude = minLatitude == null ? matrix.getLatitude() : Math.min(minLatitude, matrix.getLatitude());
+        this.maxLatitude = maxLatitude == null ? matrix.getLatitude() : Math.max(maxLatitude, matrix.getLatitude());
+        this.minLongitude = minLongitude == null ? matrix.getLongitude() : Math.min(minLongitude, matrix.getLongitude());
+        this.maxLongitude = maxLongitude == null ? matrix.getLongitude() : Math.max(maxLongitude, matrix.getLongitude());
+    }
+
+    // 칸 수 (backfill 전 기록은 칸 리스트 크기)
+    public long countMatrices() {
+        return matrixCount != null ? matrixCount : matrices.size();
     }
 
     // 정보 추가
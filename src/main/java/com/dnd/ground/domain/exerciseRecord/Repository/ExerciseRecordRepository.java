@@ -3,12 +3,14 @@ package com.dnd.ground.domain.exerciseRecord.Repository;
 import com.dnd.ground.domain.exerciseRecord.ExerciseRecord;
 import com.dnd.ground.domain.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import javax.persistence.Tuple;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,7 +20,11 @@ import java.util.Optional;
  * @since   2022-08-01
  * @updated 2022-09-29 / 회원의 운동 기록 리스트 조회
  *                       - 박찬호
- *
+ *          2026-10-18 / 전체 회원의 (start-end)사이 걸음 수 조회
+ *          2026-10-18 / 기록 저장 시간(created) backfill
+ *          2026-10-18 / 기록의 칸 수, 칸 범위 backfill
+ *          2026-10-18 / 걸음 수, 거리의 합을 기록 리스트 대신 회원 id와 기간으로 조회
+ *          2026-10-18 / 기록 id 목록 중 저장된 기록 id 조회
  */
 
 public interface ExerciseRecordRepository extends JpaRepository<ExerciseRecord, Long>, ExerciseRecordQueryRepository {
@@ -40,19 +46,41 @@ public interface ExerciseRecordRepository extends JpaRepository<ExerciseRecord,
             "order by sum(e.stepCount) desc ")
     List<Tuple> findStepCount(List<User> userAndFriends, LocalDateTime start, LocalDateTime end);
 
+    // 전체 회원의 id와 (start-end)사이 운동기록의 걸음 수 조회
+    @Query("select e.user.id, sum(e.stepCount) from ExerciseRecord e " +
+            "where e.started between :start and :end " +
+            "group by e.user.id")
+    List<Tuple> findAllStepCount(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // 저장 시간이 없는 기존 기록은 끝 시간을 저장 시간으로 채우기
+    @Modifying(clearAutomatically = true)
+    @Query(value = "update exercise_record set created = ended where created is null", nativeQuery = true)
+    int backfillCreated();
+
+    // 칸 수가 없는 기존 기록의 칸 수, 칸 범위 채우기
+    @Modifying(clearAutomatically = true)
+    @Query(value = "update exercise_record e left join (" +
+            "select exercise_record_id, count(*) as cnt, min(latitude) as min_lat, max(latitude) as max_lat, " +
+            "min(longitude) as min_lon, max(longitude) as max_lon from matrix group by exercise_record_id) m " +
+            "on e.exercise_record_id = m.exercise_record_id " +
+            "set e.matrix_count = coalesce(m.cnt, 0), e.min_latitude = m.min_lat, e.max_latitude = m.max_lat, " +
+            "e.min_longitude = m.min_lon, e.max_longitude = m.max_lon " +
+            "where e.matrix_count is null", nativeQuery = true)
+    int backfillMatrixSummary();
+
     // 유저의 최근 활동 시간 조회
     @Query("select max(r.ended) from ExerciseRecord r where r.user=:user")
     Optional<LocalDateTime> findLastRecord(@Param("user") User user);
 
-    // 운동기록들의 걸음 수의 합 조회 함수
-    @Query("select sum(e.stepCount) from User u join u.exerciseRecords e " +
-            "where e in :exerciseRecords and u = :user")
-    Optional<Integer> findUserStepCount(User user, List<ExerciseRecord> exerciseRecords);
+    // 회원의 (start-end)사이 운동기록의 걸음 수의 합 조회 함수
+    @Query("select sum(e.stepCount) from ExerciseRecord e " +
+            "where e.user.id = :userId and e.started between :start and :end")
+    Optional<Integer> findUserStepCount(@Param("userId") Long userId, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
 
-    // 운동기록들의 거리의 합 조회 함수
-    @Query("select sum(e.distance) from User u join u.exerciseRecords e " +
-            "where e in :exerciseRecords and u = :user")
-    Optional<Integer> findUserDistance(User user, List<ExerciseRecord> exerciseRecords);
+    // 회원의 (start-end)사이 운동기록의 거리의 합 조회 함수
+    @Query("select sum(e.distance) from ExerciseRecord e " +
+            "where e.user.id = :userId and e.started between :start and :end")
+    Optional<Integer> findUserDistance(@Param("userId") Long userId, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
 
     // 운동 기록 날짜 조회 (중복 제거)
     @Query("select distinct function('date_format', e.started, '%Y-%m-%d') " +
@@ -62,4 +90,8 @@ public interface ExerciseRecordRepository extends JpaRepository<ExerciseRecord,
     //회원의 운동 기록 리스트 조회
     @Query("select e from ExerciseRecord e where e.user=:user")
     List<ExerciseRecord> findRecordsByUser(@Param("user") User user);
+
+    // 기록 id 목록 중 저장된(조회하는 트랜잭션에서 보이는) 기록 id
+    @Query("select e.id from ExerciseRecord e where e.id in :ids")
+    List<Long> findIdsIn(@Param("ids") Collection<Long> ids);
 }
@@ -1,6 +1,7 @@
 package com.dnd.ground.domain.exerciseRecord.controller;
 
 import com.dnd.ground.domain.exerciseRecord.dto.EndRequestDto;
+import com.dnd.ground.domain.matrix.dto.MatrixRequestDto;
 import com.dnd.ground.domain.user.dto.HomeResponseDto;
 import com.dnd.ground.domain.user.dto.RankResponseDto;
 import com.dnd.ground.domain.user.dto.UserRequestDto;
@@ -13,10 +14,11 @@ import org.springframework.web.bind.annotation.*;
  * @author  박세헌
  * @since   2022-08-01
  * @updated 2022-08-26 / 컨트롤러-서비스단 전달 형태 변경 - 박세헌
+ *          2026-10-18 / 기록 시작에 지도 화면 범위 추가
  */
 
 public interface RecordController {
-    ResponseEntity<HomeResponseDto> start(@RequestParam("nickname") String nickname);
+    ResponseEntity<HomeResponseDto> start(@RequestParam("nickname") String nickname, @ModelAttribute MatrixRequestDto.Viewport viewport);
     ResponseEntity<?> end(@RequestBody EndRequestDto endRequestDto);
     ResponseEntity<RankResponseDto.Step> stepRank(@RequestBody UserRequestDto.LookUp requestDto);
 }
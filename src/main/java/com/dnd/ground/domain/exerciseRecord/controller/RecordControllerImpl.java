@@ -2,6 +2,7 @@ package com.dnd.ground.domain.exerciseRecord.controller;
 
 import com.dnd.ground.domain.exerciseRecord.dto.EndRequestDto;
 import com.dnd.ground.domain.exerciseRecord.service.ExerciseRecordService;
+import com.dnd.ground.domain.matrix.dto.MatrixRequestDto;
 import com.dnd.ground.domain.user.dto.HomeResponseDto;
 import com.dnd.ground.domain.user.dto.RankResponseDto;
 import com.dnd.ground.domain.user.dto.UserRequestDto;
@@ -17,6 +18,7 @@ import org.springframework.web.bind.annotation.*;
  * @author  박세헌
  * @since   2022-08-01
  * @updated 2022-08-26 / 컨트롤러-서비스단 전달 형태 변경 - 박세헌
+ *          2026-10-18 / 기록 시작에 지도 화면 범위 추가
  */
 
 @Api(tags = "운동기록")
@@ -29,9 +31,11 @@ public class RecordControllerImpl implements RecordController{
     private final ExerciseRecordService exerciseRecordService;
 
     @GetMapping("/start")
-    @Operation(summary = "기록 시작", description = "기록 시작: 운동기록 생성, 누적영역 조회")
-    public ResponseEntity<HomeResponseDto> start(@RequestParam("nickname") String nickname){
-        return ResponseEntity.ok(exerciseRecordService.recordStart(nickname));
+    @Operation(summary = "기록 시작", description = "기록 시작: 운동기록 생성, 누적영역 조회\n" +
+            "minLat, maxLat, minLon, maxLon(선택): 지도 화면 범위 내 칸만 조회")
+    public ResponseEntity<HomeResponseDto> start(@RequestParam("nickname") String nickname,
+                                                 @ModelAttribute MatrixRequestDto.Viewport viewport){
+        return ResponseEntity.ok(exerciseRecordService.recordStart(nickname, viewport));
     }
 
     @PostMapping("/end")
@@ -0,0 +1,24 @@
+package com.dnd.ground.domain.exerciseRecord.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * @description 기록 끝(recordEnd) 이벤트
+ * @since   2026-10-18
+ * @updated 1. 회원, 주, 걸음 수, 칸 수, 주간 영역 수 전달
+ *          2. 기록 id 전달 (리더보드를 다시 불러오는 중 받은 이벤트가 DB에 반영됐는지 확인)
+ *          - 2026-10-18
+ * @note 1. 기록 끝 트랜잭션이 커밋된 후에 처리(@TransactionalEventListener)
+ */
+
+@Getter
+@AllArgsConstructor
+public class RecordEndEvent {
+    private Long recordId;
+    private Long userId;
+    private Integer week;  // 기록 시작 시간 기준 주 키
+    private Integer stepCount;
+    private Integer matrixCount;  // 이번 기록의 칸 수(중복o)
+    private Long weekAreaCount;  // 기록 추가 후 해당 주의 영역 수(중복x)
+}
@@ -1,6 +1,7 @@
 package com.dnd.ground.domain.exerciseRecord.service;
 
 import com.dnd.ground.domain.exerciseRecord.dto.EndRequestDto;
+import com.dnd.ground.domain.matrix.dto.MatrixRequestDto;
 import com.dnd.ground.domain.user.dto.HomeResponseDto;
 import com.dnd.ground.domain.user.dto.RankResponseDto;
 import com.dnd.ground.domain.user.dto.UserRequestDto;
@@ -13,12 +14,13 @@ import java.time.LocalDateTime;
  * @author  박세헌
  * @since   2022-08-01
  * @updated 2022-08-26 / 미사용 메소드 삭제 - 박찬호
+ *          2026-10-18 / 기록 시작에 지도 화면 범위 추가
  */
 
 public interface ExerciseRecordService {
 
 
-    HomeResponseDto recordStart(String nickname);
+    HomeResponseDto recordStart(String nickname, MatrixRequestDto.Viewport viewport);
 
     ResponseEntity<Boolean> recordEnd(EndRequestDto endRequestDto);
 
@@ -1,29 +1,35 @@
 package com.dnd.ground.domain.exerciseRecord.service;
 
-import com.dnd.ground.domain.challenge.Challenge;
-import com.dnd.ground.domain.challenge.ChallengeColor;
-import com.dnd.ground.domain.challenge.repository.ChallengeRepository;
-import com.dnd.ground.domain.challenge.repository.UserChallengeRepository;
+import com.dnd.ground.domain.challenge.service.ChallengeScoreService;
 import com.dnd.ground.domain.exerciseRecord.ExerciseRecord;
 import com.dnd.ground.domain.exerciseRecord.Repository.ExerciseRecordRepository;
 import com.dnd.ground.domain.exerciseRecord.dto.EndRequestDto;
+import com.dnd.ground.domain.exerciseRecord.event.RecordEndEvent;
 import com.dnd.ground.domain.friend.service.FriendService;
 import com.dnd.ground.domain.matrix.Matrix;
-import com.dnd.ground.domain.matrix.dto.MatrixDto;
+import com.dnd.ground.domain.matrix.dto.MatrixRequestDto;
 import com.dnd.ground.domain.matrix.matrixRepository.MatrixRepository;
+import com.dnd.ground.domain.matrix.matrixService.TerritoryService;
 import com.dnd.ground.domain.user.User;
 import com.dnd.ground.domain.user.dto.HomeResponseDto;
 import com.dnd.ground.domain.user.dto.RankResponseDto;
 import com.dnd.ground.domain.user.dto.UserRequestDto;
 import com.dnd.ground.domain.user.dto.UserResponseDto;
 import com.dnd.ground.domain.user.repository.UserRepository;
+import com.dnd.ground.domain.user.service.UserService;
 import com.dnd.ground.global.exception.CNotFoundException;
+import com.dnd.ground.global.exception.CNotValidationException;
 import com.dnd.ground.global.exception.CommonErrorCode;
+import com.dnd.ground.global.util.LongHashSet;
+import com.dnd.ground.global.util.MatrixUtil;
+import com.dnd.ground.global.util.WeekUtil;
 import lombok.*;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.Tuple;
@@ -35,6 +41,15 @@ import java.util.*;
  * @author  박세헌
  * @since   2022-08-01
  * @updated 2022-08-29 / 미사용 메소드 삭제 - 박찬호
+ *          2026-10-18 / 기록 시작 시 영역 조회를 메인화면 조회(UserService.showHome)로 위임
+ *          2026-10-18 / 기록 끝 시 주간 영역 집계(user_week_cell, user_week_summary) 갱신
+ *          2026-10-18 / 기록 끝 커밋 후 메모리 랭킹 갱신, 이번주 걸음 수 랭킹은 메모리 랭킹에서 조회
+ *          2026-10-18 / 기록 시작 시 지도 화면 범위 내 영역만 조회
+ *          2026-10-18 / 기록 끝 시 칸을 격자에 맞추고 기록 내 중복 제거, 잘못된 위도, 경도 거부
+ *          2026-10-18 / 기록 시작 시 (캐시될 수 있는) 메인화면 응답을 수정하지 않고 복사
+ *          2026-10-18 / 기록 끝 시 진행 중인 챌린지들의 회원별 점수(challenge_score) 갱신
+ *          2026-10-18 / 기록 시작 시 메인화면 필터(나의 기록 보기, 친구 보기)와 상관없이 영역 조회
+ *          2026-10-18 / 기록 끝 시 칸이 없는(null, 빈 리스트) 요청 거부
  */
 
 @Service
@@ -46,89 +61,31 @@ public class ExerciseRecordServiceImpl implements ExerciseRecordService {
     private final UserRepository userRepository;
     private final MatrixRepository matrixRepository;
     private final FriendService friendService;
-    private final ChallengeRepository challengeRepository;
-    private final UserChallengeRepository userChallengeRepository;
+    private final UserService userService;
+    private final TerritoryService territoryService;
+    private final ChallengeScoreService challengeScoreService;
+    private final LeaderboardService leaderboardService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 기록 시작
-    // 운동기록 id, 일주일 누적 영역 반환
-    public HomeResponseDto recordStart(String nickname){
-        User user = userRepository.findByNickname(nickname).orElseThrow(
-                () -> new CNotFoundException(CommonErrorCode.NOT_FOUND_USER));
-
-        /*회원의 matrix 와 정보 (userMatrix)*/
-        UserResponseDto.UserMatrix userMatrix = new UserResponseDto.UserMatrix(user);
-
-        List<ExerciseRecord> userRecordOfThisWeek = exerciseRecordRepository.findRecordOfThisWeek(user.getId()); // 이번주 운동기록 조회
-        List<MatrixDto> userMatrixSet = matrixRepository.findMatrixSetByRecords(userRecordOfThisWeek);  // 운동 기록의 영역 조회
-
-        //회원 정보 저장
-        userMatrix.setProperties(user.getNickname(), userMatrixSet.size(), userMatrixSet, null, null);
-
-        /*----------*/
-        //진행 중인 챌린지 목록 조회 List<UserChallenge>
-        List<Challenge> challenges = challengeRepository.findProgressChallenge(user);
-
-        //챌린지를 함께하지 않는 친구 목록
-        List<User> friendsNotChallenge = friendService.getFriends(user);
-
-        //나랑 챌린지를 함께 하는 사람들(친구+친구X 둘 다)
-        Set<User> friendsWithChallenge = new HashSet<>();
-
-        for (Challenge challenge : challenges) {
-            List<User> challengeUsers = userChallengeRepository.findChallengeUsers(challenge);
-            //챌린지를 함께하고 있는 사람들 조회
-            for (User cu : challengeUsers) {
-                friendsWithChallenge.add(cu);
-                friendsNotChallenge.remove(cu);
-            }
-        }
-        friendsWithChallenge.remove(user);
-        /*----------*/
-
-        /*챌린지를 안하는 친구들의 matrix 와 정보 (friendMatrices)*/
-        Map<String, List<MatrixDto>> friendHashMap= new HashMap<>();
-        List<UserResponseDto.FriendMatrix> friendMatrices = new ArrayList<>();
-
-        friendsNotChallenge.forEach(nf -> friendHashMap.put(nf.getNickname(),
-                matrixRepository.findMatrixSetByRecords(exerciseRecordRepository.findRecordOfThisWeek(nf.getId()))));  // 이번주 운동기록 조회하여 영역 대입
-
-        for (String friendNickname : friendHashMap.keySet()) {
-            User friend = userRepository.findByNickname(friendNickname).orElseThrow(
-                    () -> new CNotFoundException(CommonErrorCode.NOT_FOUND_USER));
-
-            friendMatrices.add(new UserResponseDto.FriendMatrix(friendNickname, friend.getLatitude(), friend.getLongitude(),
-                    friendHashMap.get(friendNickname), friend.getPicturePath()));
-        }
-
-        /*챌린지를 하는 사람들의 matrix 와 정보 (challengeMatrices)*/
-        List<UserResponseDto.ChallengeMatrix> challengeMatrices = new ArrayList<>();
-
-        for (User friend : friendsWithChallenge) {
-            Integer challengeNumber = challengeRepository.findCountChallenge(user, friend); // 함께하는 챌린지 수
-
-            //색깔 처리
-            Challenge challengeWithFriend = challengeRepository.findChallengesWithFriend(user, friend).get(0);//함께하는 첫번째 챌린지 조회
-            ChallengeColor challengeColor = userChallengeRepository.findChallengeColor(user, challengeWithFriend);//회원 기준 해당 챌린지 색깔
-
-            List<ExerciseRecord> challengeRecordOfThisWeek = exerciseRecordRepository.findRecordOfThisWeek(friend.getId()); // 이번주 운동기록 조회
-            List<MatrixDto> challengeMatrixSetDto = matrixRepository.findMatrixSetByRecords(challengeRecordOfThisWeek); // 운동 기록의 영역 조회
-
-            challengeMatrices.add(
-                    new UserResponseDto.ChallengeMatrix(
-                            friend.getNickname(), challengeNumber, challengeColor,
-                            friend.getLatitude(), friend.getLongitude(), challengeMatrixSetDto,
-                            friend.getPicturePath())
-            );
-        }
+    // 운동기록 id, 일주일 누적 영역 반환 (섹션 조회를 기다리는 동안 커넥션을 잡지 않도록 트랜잭션 밖에서 실행)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public HomeResponseDto recordStart(String nickname, MatrixRequestDto.Viewport viewport){
+        // 메인화면과 같은 영역 정보(회원의 마지막 위치, 챌린지 개수 제외), 메인화면 필터는 적용하지 않음 (필터 값은 응답에 포함)
+        // 응답은 여러 요청이 공유할 수 있으므로 복사해서 수정
+        HomeResponseDto home = userService.showRecordHome(nickname, viewport);
+        UserResponseDto.UserMatrix mine = home.getUserMatrices();
+        UserResponseDto.UserMatrix userMatrix = new UserResponseDto.UserMatrix(mine.getNickname(), mine.getMatricesNumber(),
+                null, null, mine.getMatrices(), mine.getPicturePath());
 
         return HomeResponseDto.builder()
                 .userMatrices(userMatrix)
-                .friendMatrices(friendMatrices)
-                .challengeMatrices(challengeMatrices)
-                .challengesNumber(null)
-                .isShowMine(user.getIsShowMine())
-                .isShowFriend(user.getIsShowFriend())
-                .isPublicRecord(user.getIsPublicRecord())
+                .friendMatrices(home.getFriendMatrices())
+                .challengeMatrices(home.getChallengeMatrices())
+                .isShowMine(home.getIsShowMine())
+                .isShowFriend(home.getIsShowFriend())
+                .isPublicRecord(home.getIsPublicRecord())
+                .timedOutSections(home.getTimedOutSections())
                 .build();
     }
 
@@ -144,17 +101,37 @@ public class ExerciseRecordServiceImpl implements ExerciseRecordService {
         exerciseRecord.updateInfo(endRequestDto.getDistance(), endRequestDto.getStepCount(),
                 endRequestDto.getExerciseTime(), endRequestDto.getMessage(), endRequestDto.getStarted(), endRequestDto.getEnded());
 
-        //영역 저장
+        //영역 저장: 같은 칸 좌표(부동소수점 오차만 다른 경우 포함)를 기록 내에서 중복 제거 (matrix_seq에서 미리 할당받은 id로 batch insert)
+        //칸이 없는 기록은 마지막 위치를 알 수 없으므로 거부
         ArrayList<ArrayList<Double>> matrices = endRequestDto.getMatrices();
+        if (matrices == null || matrices.isEmpty()) {
+            throw new CNotValidationException(CommonErrorCode.EMPTY_MATRIX);
+        }
+        LongHashSet cellKeys = new LongHashSet(matrices.size());
         for (ArrayList<Double> matrix : matrices) {
-            exerciseRecord.addMatrix(new Matrix(matrix.get(0), matrix.get(1)));
+            if (matrix == null || matrix.size() != 2 || !MatrixUtil.isValid(matrix.get(0), matrix.get(1))) {
+                throw new CNotValidationException(CommonErrorCode.NOT_VALID_MATRIX);
+            }
+            long cellKey = MatrixUtil.toCellKey(matrix.get(0), matrix.get(1));
+            if (cellKeys.add(cellKey)) exerciseRecord.addMatrix(new Matrix(cellKey));
         }
 
+        //주간 영역 집계 갱신 (칸 수 = 기록 내 중복 제거된 칸 수)
+        long[] recordCellKeys = cellKeys.toArray();
+        long weekAreaCount = territoryService.addCells(user.getId(), exerciseRecord.getStarted(), recordCellKeys, cellKeys.size());
+
+        //회원이 참여하는 진행 중인 챌린지들의 점수 갱신
+        challengeScoreService.addRecord(user.getId(), exerciseRecord.getStarted(), recordCellKeys);
+
         //회원 마지막 위치 최신화
         ArrayList<Double> lastPosition = matrices.get(matrices.size() - 1);
         exerciseRecord.getUser().updatePosition(lastPosition.get(0), lastPosition.get(1));
 
         exerciseRecordRepository.save(exerciseRecord);
+
+        //커밋 후 랭킹(리더보드) 갱신
+        eventPublisher.publishEvent(new RecordEndEvent(exerciseRecord.getId(), user.getId(), WeekUtil.toWeek(exerciseRecord.getStarted()),
+                exerciseRecord.getStepCount(), cellKeys.size(), weekAreaCount));
         return new ResponseEntity(true, HttpStatus.CREATED);
     }
 
@@ -170,6 +147,14 @@ public class ExerciseRecordServiceImpl implements ExerciseRecordService {
 
         List<User> userAndFriends = friendService.getFriends(user);  // 친구들 조회
         userAndFriends.add(0, user);  // 유저 추가
+
+        // 이번주 전체 조회라면 메모리 랭킹에서 조회 (걸음 수가 0인 회원은 제외, 모두 0이라면 전부 1등)
+        if (leaderboardService.isReady() && WeekUtil.isWholeWeek(start, end) && WeekUtil.toWeek(start) == WeekUtil.thisWeek()) {
+            List<UserResponseDto.Ranking> rankings = leaderboardService.getRankings(userAndFriends, LeaderboardService.Type.WEEK_STEP);
+            if (rankings.get(0).getScore() > 0) rankings.removeIf(ranking -> ranking.getScore() == 0);
+            return new RankResponseDto.Step(rankings);
+        }
+
         List<UserResponseDto.Ranking> stepRankings = new ArrayList<>(); // [랭킹, 닉네임, 걸음 수]
 
         // [Tuple(닉네임, 걸음 수, 프로필 path)] 걸음 수 기준 내림차순 정렬
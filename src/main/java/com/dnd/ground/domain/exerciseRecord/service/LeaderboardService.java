@@ -0,0 +1,28 @@
+package com.dnd.ground.domain.exerciseRecord.service;
+
+import com.dnd.ground.domain.user.User;
+import com.dnd.ground.domain.user.dto.UserResponseDto;
+
+import java.util.List;
+
+/**
+ * @description 메모리 랭킹(리더보드) 서비스 인터페이스
+ * @since   2026-10-18
+ * @updated 1. 이번주 걸음 수, 이번주 영역 수, 역대 누적 칸 수 랭킹
+ *          - 2026-10-18
+ */
+
+public interface LeaderboardService {
+
+    enum Type {
+        WEEK_STEP,    // 이번주 걸음 수
+        WEEK_AREA,    // 이번주 영역 수(중복x)
+        ALL_MATRIX    // 역대 누적 칸 수(중복o)
+    }
+
+    boolean isReady();
+    List<UserResponseDto.Ranking> getRankings(List<User> users, Type type);
+
+    void rebuild();
+    int verify();
+}
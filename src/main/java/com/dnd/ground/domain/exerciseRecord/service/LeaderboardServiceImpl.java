@@ -0,0 +1,249 @@
+package com.dnd.ground.domain.exerciseRecord.service;
+
+import com.dnd.ground.domain.exerciseRecord.Repository.ExerciseRecordRepository;
+import com.dnd.ground.domain.exerciseRecord.event.RecordEndEvent;
+import com.dnd.ground.domain.matrix.matrixRepository.UserWeekSummaryRepository;
+import com.dnd.ground.domain.user.User;
+import com.dnd.ground.domain.user.dto.UserResponseDto;
+import com.dnd.ground.global.util.WeekUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.persistence.Tuple;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * @description 메모리 랭킹(리더보드) 서비스 클래스
+ *              1. 회원별 이번주 걸음 수, 이번주 영역 수, 역대 누적 칸 수를 메모리(long 배열)에 보관
+ *              2. 기록 끝 커밋 후 해당 회원의 점수만 갱신
+ *              3. 서버 시작 시, 매일 새벽 DB로 다시 계산(검증)
+ * @since   2026-10-18
+ * @updated 1. 이번주 걸음 수, 이번주 영역 수, 역대 누적 칸 수 랭킹
+ *          2. DB에서 다시 불러오는 동안 받은 기록 끝 이벤트를 모아서, 불러온 랭킹에 없는 기록만 다시 반영 후 교체
+ *          - 2026-10-18
+ * @note 1. 랭킹 조회 시 DB 접근 없음 (준비 전에는 isReady() == false, 호출한 쪽에서 DB로 조회)
+ *       2. 주가 바뀌면 이번주 점수는 0부터 다시 시작
+ *       3. 서버 1대 기준: 다른 서버의 기록 끝 이벤트는 새벽 검증 때 반영
+ *       4. 다시 불러오기는 한 트랜잭션(REPEATABLE READ)에서 실행
+ *          - 모아둔 이벤트의 기록이 불러온 스냅샷에 보이면 이미 반영된 기록 (중복 반영x)
+ *          - 보이지 않으면 불러온 뒤에 커밋된 기록이므로 다시 반영 (누락x)
+ */
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LeaderboardServiceImpl implements LeaderboardService {
+
+    private final ExerciseRecordRepository exerciseRecordRepository;
+    private final UserWeekSummaryRepository userWeekSummaryRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Lock reloadLock = new ReentrantLock();  // 다시 불러오기는 한 번에 하나만
+    private Board board = new Board(WeekUtil.thisWeek());
+    private List<RecordEndEvent> pending;  // 다시 불러오는 동안 받은 기록 끝 이벤트 (불러오는 중이 아니면 null)
+    private volatile boolean ready = false;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 회원들의 랭킹 계산 (점수 내림차순, 동점은 같은 랭크)
+    public List<UserResponseDto.Ranking> getRankings(List<User> users, Type type) {
+        List<UserResponseDto.Ranking> rankings = new ArrayList<>(users.size());
+
+        lock.readLock().lock();
+        try {
+            boolean isThisWeek = board.week == WeekUtil.thisWeek();
+            for (User user : users) {
+                long score = (type == Type.ALL_MATRIX || isThisWeek) ? board.get(user.getId(), type) : 0L;
+                rankings.add(new UserResponseDto.Ranking(1, user.getNickname(), score, user.getPicturePath()));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        rankings.sort((a, b) -> b.getScore().compareTo(a.getScore()));
+        for (int i = 1; i < rankings.size(); i++) {
+            UserResponseDto.Ranking before = rankings.get(i - 1);
+            rankings.get(i).setRank(Objects.equals(rankings.get(i).getScore(), before.getScore()) ? before.getRank() : i + 1);
+        }
+        return rankings;
+    }
+
+    // 기록 끝 커밋 후 점수 갱신 (다시 불러오는 중이면 이벤트도 보관)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRecordEnd(RecordEndEvent event) {
+        lock.writeLock().lock();
+        try {
+            board.apply(event);
+            if (pending != null) pending.add(event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 서버 시작 시 DB로 랭킹 생성
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public void rebuild() {
+        reload(true);
+        log.info("**리더보드 생성** 회원 수:{}", board.slots.size());
+    }
+
+    // DB와 메모리 랭킹 비교 후 다르면 DB 기준으로 교체 (반환: 점수가 다른 회원 수)
+    @Scheduled(cron = "0 0 4 * * *")
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public int verify() {
+        int mismatch = reload(false);
+        if (mismatch > 0) log.warn("**리더보드 검증** DB와 점수가 다른 회원 수:{} -> DB 기준으로 다시 생성", mismatch);
+        return mismatch;
+    }
+
+    // DB에서 다시 불러온 랭킹에 불러오는 동안 받은 이벤트를 반영한 후 비교, 교체 (반환: 점수가 다른 회원 수)
+    private int reload(boolean replace) {
+        reloadLock.lock();
+        try {
+            setPending(new ArrayList<>());
+            Board loaded = load();
+
+            lock.writeLock().lock();
+            try {
+                //불러온 스냅샷에 없는 기록만 반영 (스냅샷 이전에 커밋된 기록은 이미 포함)
+                List<Long> recordIds = new ArrayList<>();
+                pending.forEach(event -> recordIds.add(event.getRecordId()));
+                Set<Long> loadedIds = recordIds.isEmpty() ? Set.of() : new HashSet<>(exerciseRecordRepository.findIdsIn(recordIds));
+                for (RecordEndEvent event : pending) {
+                    if (!loadedIds.contains(event.getRecordId())) loaded.apply(event);
+                }
+                pending = null;
+
+                int mismatch = countMismatch(loaded, board);
+                if (replace || mismatch > 0) board = loaded;
+                ready = true;
+                return mismatch;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            setPending(null);
+            reloadLock.unlock();
+        }
+    }
+
+    private void setPending(List<RecordEndEvent> events) {
+        lock.writeLock().lock();
+        try {
+            pending = events;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 점수가 하나라도 다른 회원 수
+    private static int countMismatch(Board a, Board b) {
+        Set<Long> userIds = new HashSet<>(a.slots.keySet());
+        userIds.addAll(b.slots.keySet());
+
+        int mismatch = 0;
+        for (Long userId : userIds) {
+            for (Type type : Type.values()) {
+                if (a.get(userId, type) != b.get(userId, type)) {
+                    mismatch++;
+                    break;
+                }
+            }
+        }
+        return mismatch;
+    }
+
+    // DB에서 이번주 걸음 수, 이번주 영역 수, 역대 누적 칸 수 조회
+    private Board load() {
+        int week = WeekUtil.thisWeek();
+        Board loaded = new Board(week);
+
+        LocalDateTime now = LocalDateTime.now();
+        for (Tuple step : exerciseRecordRepository.findAllStepCount(WeekUtil.startOfWeek(now), now)) {
+            loaded.weekStep[loaded.slot((Long) step.get(0))] = (Long) step.get(1);
+        }
+        for (Tuple count : userWeekSummaryRepository.findAllCountsByWeek(week)) {
+            loaded.weekArea[loaded.slot((Long) count.get(0))] = (Long) count.get(1);
+        }
+        for (Tuple count : userWeekSummaryRepository.findAllMatrixCount()) {
+            loaded.allMatrix[loaded.slot((Long) count.get(0))] = (Long) count.get(1);
+        }
+        return loaded;
+    }
+
+    /*회원 id -> 배열 위치, 점수 배열*/
+    private static class Board {
+        private int week;
+        private final Map<Long, Integer> slots = new HashMap<>();
+        private long[] weekStep = new long[16];
+        private long[] weekArea = new long[16];
+        private long[] allMatrix = new long[16];
+
+        Board(int week) {
+            this.week = week;
+        }
+
+        // 회원의 배열 위치 (없으면 추가)
+        int slot(Long userId) {
+            Integer slot = slots.get(userId);
+            if (slot != null) return slot;
+
+            slot = slots.size();
+            if (slot == allMatrix.length) {
+                int capacity = allMatrix.length * 2;
+                weekStep = Arrays.copyOf(weekStep, capacity);
+                weekArea = Arrays.copyOf(weekArea, capacity);
+                allMatrix = Arrays.copyOf(allMatrix, capacity);
+            }
+            slots.put(userId, slot);
+            return slot;
+        }
+
+        long get(Long userId, Type type) {
+            Integer slot = slots.get(userId);
+            if (slot == null) return 0L;
+
+            switch (type) {
+                case WEEK_STEP: return weekStep[slot];
+                case WEEK_AREA: return weekArea[slot];
+                default: return allMatrix[slot];
+            }
+        }
+
+        // 기록 끝 반영 (다음 주 기록이면 새로운 주 시작)
+        void apply(RecordEndEvent event) {
+            if (event.getWeek() > week) startWeek(event.getWeek());
+
+            int slot = slot(event.getUserId());
+            allMatrix[slot] += event.getMatrixCount();
+
+            if (event.getWeek() == week) {
+                weekStep[slot] += event.getStepCount();
+                weekArea[slot] = Math.max(weekArea[slot], event.getWeekAreaCount());
+            }
+        }
+
+        // 새로운 주 시작: 이번주 점수 초기화
+        void startWeek(int week) {
+            this.week = week;
+            Arrays.fill(weekStep, 0L);
+            Arrays.fill(weekArea, 0L);
+        }
+    }
+}
@@ -17,12 +17,14 @@ import java.util.Optional;
  * @since   2022-08-01
  * @updated 1.요청받은 친구 목록 조회 쿼리 추가
  *          - 2022.10.29 박찬호
+ *          2.친구 목록 조회 시 회원 fetch join
+ *          - 2026.10.18
  */
 
 public interface FriendRepository extends JpaRepository<Friend, Long> {
 
     //User를 통해 친구 목록 조회
-    @Query("select f from Friend f where (f.friend =:user or f.user = :user) and f.status='Accept'")
+    @Query("select f from Friend f join fetch f.user join fetch f.friend where (f.friend =:user or f.user = :user) and f.status='Accept'")
     List<Friend> findFriendsByUser(@Param("user") User user);
 
     //친구 요청 리스트 조회
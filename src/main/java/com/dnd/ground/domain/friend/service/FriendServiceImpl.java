@@ -5,11 +5,13 @@ import com.dnd.ground.domain.friend.FriendStatus;
 import com.dnd.ground.domain.friend.dto.FriendResponseDto;
 import com.dnd.ground.domain.friend.repository.FriendRepository;
 import com.dnd.ground.domain.user.User;
+import com.dnd.ground.domain.user.event.HomeChangedEvent;
 import com.dnd.ground.domain.user.repository.UserRepository;
 import com.dnd.ground.global.exception.CNotFoundException;
 import com.dnd.ground.global.exception.CommonErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,6 +26,8 @@ import java.util.Optional;
  * @updated 1.친구 목록 조회 페이징 적용
  * 2.친구 요청 목록 조회 기능 구현
  * - 2022.10.29 박찬호
+ * 3.친구 수락, 삭제 시 메인화면 변경 이벤트 발행
+ * - 2026.10.18
  * @since 2022-08-01
  */
 
@@ -34,6 +38,7 @@ public class FriendServiceImpl implements FriendService {
 
     private final FriendRepository friendRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     private final Integer FRIEND_LARGE_PAGING_NUMBER = 16; //15개씩 페이징하기 위해 1개 더 가져옴(마지막 여부 판단)
     private final Integer FRIEND_SMALL_PAGING_NUMBER = 4; //3개씩 페이징 하기 위해 1개 더 가져옴.
@@ -190,6 +195,11 @@ public class FriendServiceImpl implements FriendService {
         );
 
         friendRelation.updateStatus(status);
+
+        //수락된 경우 두 회원의 메인화면에 서로 보임
+        if (friendRelation.getStatus() == FriendStatus.Accept) {
+            eventPublisher.publishEvent(new HomeChangedEvent(user.getId(), friend.getId()));
+        }
         return new FriendResponseDto.ResponseResult(user.getNickname(), friend.getNickname(), friendRelation.getStatus());
     }
 
@@ -208,6 +218,7 @@ public class FriendServiceImpl implements FriendService {
 
         if (friendRelation.isPresent()) {
             friendRepository.delete(friendRelation.get());
+            eventPublisher.publishEvent(new HomeChangedEvent(user.getId(), friend.getId()));
             return true;
         } else {
             return false;
@@ -1,6 +1,7 @@
 package com.dnd.ground.domain.matrix;
 
 import com.dnd.ground.domain.exerciseRecord.ExerciseRecord;
+import com.dnd.ground.global.util.MatrixUtil;
 import lombok.*;
 
 import javax.persistence.*;
@@ -11,19 +12,34 @@ import java.time.LocalDateTime;
  * @author  박세헌
  * @since   2022-07-27
  * @updated 2022-08-17 / 위도, 경도 필드 Double형으로 변경 : 박세헌
+ *          2026-10-18 / 칸 키(cell_key) 필드 및 인덱스 추가
+ *          2026-10-18 / id 생성을 pooled 시퀀스(matrix_seq)로 변경 (배치 insert)
+ *          2026-10-18 / 위도, 경도를 격자에 맞춘 값으로 저장
+ * @note 1. matrix_seq는 한 번에 ALLOCATION_SIZE개의 id를 할당받아 메모리에서 나눠줌(pooled-lo)
+ *       2. id를 insert 전에 알 수 있으므로 hibernate.jdbc.batch_size 단위로 insert가 묶임
  */
 
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name="matrix")
+@Table(name="matrix", indexes = {
+        @Index(name = "idx_matrix_record_cell", columnList = "exercise_record_id, cell_key"),
+        @Index(name = "idx_matrix_cell", columnList = "cell_key")
+})
 @Entity
 public class Matrix {
 
-    @Id @GeneratedValue
+    public static final int ALLOCATION_SIZE = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "matrix_seq_generator")
+    @SequenceGenerator(name = "matrix_seq_generator", sequenceName = "matrix_seq", allocationSize = ALLOCATION_SIZE)
     @Column(name = "matrix_id")
     private Long id;
 
+    @Column(name = "cell_key", nullable = false)
+    private Long cellKey;
+
     @Column(nullable = false)
     private Double latitude;
 
@@ -35,8 +51,14 @@ public class Matrix {
     private ExerciseRecord exerciseRecord;
 
     public Matrix(double latitude, double longitude) {
-        this.latitude = latitude;
-        this.longitude = longitude;
+        this(MatrixUtil.toCellKey(latitude, longitude));
+    }
+
+    // 칸 키 -> 격자에 맞춰진 위도, 경도
+    public Matrix(long cellKey) {
+        this.cellKey = cellKey;
+        this.latitude = MatrixUtil.toLatitude(cellKey);
+        this.longitude = MatrixUtil.toLongitude(cellKey);
     }
 
     // setExerciseRecord
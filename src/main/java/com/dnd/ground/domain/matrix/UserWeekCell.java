@@ -0,0 +1,47 @@
+package com.dnd.ground.domain.matrix;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.io.Serializable;
+
+/**
+ * @description 회원의 주간 영역(칸) 집계 엔티티
+ * @since   2026-10-18
+ * @updated 1. 회원 - 주 - 칸 키 생성
+ *          - 2026-10-18
+ * @note 1. 기록 끝(recordEnd) 시 같은 트랜잭션에서 insert ignore로 추가 (회원, 주 별로 칸 중복x)
+ *       2. 주는 기록 시작 시간 기준 ISO 주 키(WeekUtil.toWeek)
+ */
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@IdClass(UserWeekCell.Key.class)
+@Table(name = "user_week_cell")
+@Entity
+public class UserWeekCell {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "week")
+    private Integer week;
+
+    @Id
+    @Column(name = "cell_key")
+    private Long cellKey;
+
+    /*복합 키*/
+    @Getter
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+        private Long userId;
+        private Integer week;
+        private Long cellKey;
+    }
+}
@@ -0,0 +1,49 @@
+package com.dnd.ground.domain.matrix;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.io.Serializable;
+
+/**
+ * @description 회원의 주간 영역 수, 칸 수 집계 엔티티
+ * @since   2026-10-18
+ * @updated 1. 회원 - 주 별 영역 수(중복x), 칸 수(중복o) 생성
+ *          2. 주간 칸 집합 비트맵(cell_bitmap) 추가
+ *          3. 주간 칸 집합 비트맵(cell_bitmap) 삭제 (칸 집합은 user_week_cell)
+ *          - 2026-10-18
+ * @note 1. 기록 끝(recordEnd) 시 user_week_cell과 같은 트랜잭션에서 갱신
+ */
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@IdClass(UserWeekSummary.Key.class)
+@Table(name = "user_week_summary")
+@Entity
+public class UserWeekSummary {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "week")
+    private Integer week;
+
+    @Column(name = "area_count", nullable = false)
+    private Long areaCount;
+
+    @Column(name = "matrix_count", nullable = false)
+    private Long matrixCount;
+
+    /*복합 키*/
+    @Getter
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+        private Long userId;
+        private Integer week;
+    }
+}
@@ -1,5 +1,6 @@
 package com.dnd.ground.domain.matrix.dto;
 
+import com.dnd.ground.global.util.MatrixUtil;
 import io.swagger.annotations.ApiModelProperty;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -9,6 +10,7 @@ import lombok.Data;
  * @author  박세헌
  * @since   2022-08-05
  * @updated 2022-08-09 / 생성: 박세헌
+ *          2026-10-18 / 칸 키를 통한 생성자 추가
  */
 
 @Data @AllArgsConstructor
@@ -17,4 +19,10 @@ public class MatrixDto{
     private Double latitude;
     @ApiModelProperty(value = "경도", example = "127.123123")
     private Double longitude;
+
+    // 칸 키 -> 격자에 맞춰진 위도, 경도
+    public MatrixDto(Long cellKey) {
+        this.latitude = MatrixUtil.toLatitude(cellKey);
+        this.longitude = MatrixUtil.toLongitude(cellKey);
+    }
 }
\ No newline at end of file
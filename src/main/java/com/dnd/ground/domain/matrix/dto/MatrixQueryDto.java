@@ -0,0 +1,31 @@
+package com.dnd.ground.domain.matrix.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * @description 여러 회원의 칸을 한 번에 조회할 때 사용하는 쿼리 결과 dto
+ * @since   2026-10-18
+ * @updated 1. 회원 id - 칸 키 쌍 추가
+ *          2. 회원 id - 영역 수 쌍 추가
+ *          - 2026-10-18
+ */
+
+public class MatrixQueryDto {
+
+    /*회원 id, 칸 키*/
+    @Getter
+    @AllArgsConstructor
+    public static class UserCell {
+        private Long userId;
+        private Long cellKey;
+    }
+
+    /*회원 id, 영역 수(중복x)*/
+    @Getter
+    @AllArgsConstructor
+    public static class UserCount {
+        private Long userId;
+        private Long count;
+    }
+}
@@ -0,0 +1,69 @@
+package com.dnd.ground.domain.matrix.dto;
+
+import com.dnd.ground.global.exception.CNotValidationException;
+import com.dnd.ground.global.exception.CommonErrorCode;
+import com.dnd.ground.global.util.MatrixUtil;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * @description 칸(영역) 조회 관련 Request Dto
+ *              1. 지도 화면 범위(Viewport)
+ * @since   2026-10-18
+ * @updated 1. 지도 화면 범위(위도, 경도 최소-최대) 추가
+ *          - 2026-10-18
+ */
+
+public class MatrixRequestDto {
+
+    /*지도 화면 범위: 4개 값이 모두 없으면 전체 영역 조회*/
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Viewport {
+        @ApiModelProperty(value = "화면 최소 위도", example = "37.123123")
+        private Double minLat;
+
+        @ApiModelProperty(value = "화면 최대 위도", example = "37.223123")
+        private Double maxLat;
+
+        @ApiModelProperty(value = "화면 최소 경도", example = "127.123123")
+        private Double minLon;
+
+        @ApiModelProperty(value = "화면 최대 경도", example = "127.223123")
+        private Double maxLon;
+
+        // 범위가 지정되었는지 (일부만 있거나 범위가 잘못되면 예외)
+        public boolean hasBounds() {
+            if (minLat == null && maxLat == null && minLon == null && maxLon == null) return false;
+            if (minLat == null || maxLat == null || minLon == null || maxLon == null
+                    || minLat > maxLat || minLon > maxLon
+                    || minLat < -90 || maxLat > 90 || minLon < -180 || maxLon > 180) {
+                throw new CNotValidationException(CommonErrorCode.NOT_VALID_VIEWPORT);
+            }
+            return true;
+        }
+
+        // 범위 내 최소 칸 키 (위도 인덱스가 상위 32비트이므로 위도 범위는 칸 키 범위로 변환)
+        public long minCellKey() {
+            return MatrixUtil.toLatitudeIndex(minLat) << 32;
+        }
+
+        // 범위 내 최대 칸 키
+        public long maxCellKey() {
+            return (MatrixUtil.toLatitudeIndex(maxLat) << 32) | 0xFFFFFFFFL;
+        }
+
+        // 범위 내 최소 경도 인덱스 (칸 키의 하위 32비트)
+        public long minLonIndex() {
+            return MatrixUtil.toLongitudeIndex(minLon);
+        }
+
+        // 범위 내 최대 경도 인덱스
+        public long maxLonIndex() {
+            return MatrixUtil.toLongitudeIndex(maxLon);
+        }
+    }
+}
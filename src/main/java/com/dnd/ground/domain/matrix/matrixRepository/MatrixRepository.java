@@ -3,10 +3,14 @@ package com.dnd.ground.domain.matrix.matrixRepository;
 import com.dnd.ground.domain.exerciseRecord.ExerciseRecord;
 import com.dnd.ground.domain.matrix.Matrix;
 import com.dnd.ground.domain.matrix.dto.MatrixDto;
+import com.dnd.ground.domain.matrix.dto.MatrixQueryDto;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -15,27 +19,89 @@ import java.util.List;
  * @since   2022-08-01
  * @updated 1.운동 기록의 매트릭스 리스트 조회 쿼리 추가
  *          -2022.09.29 박찬호
+ *          2.중복 제거 기준을 위도, 경도 쌍에서 칸 키로 변경
+ *          3.기존 칸들의 칸 키 채우기(backfill) 쿼리 추가
+ *          4.matrix_seq를 기존 칸 id 이후로 맞추는 쿼리 추가
+ *          5.회원별 기간 내 영역 수를 한 번에 조회하는 쿼리 추가
+ *          6.회원별 특정 시간 이후 저장된 주간 칸 조회 쿼리 추가
+ *          7.기록 내 중복 칸 삭제(backfill) 쿼리 추가
+ *          8.운동기록 리스트(IN) 대신 회원 id와 기간으로 칸 조회
+ *          9.회원별 기간 내 칸 수를 한 번에 조회하는 쿼리 추가
+ *          10.회원별 기간 내 칸 조회 쿼리 추가
+ *          11.칸 키 backfill의 반올림을 MatrixUtil과 같은 floor(x + 0.5)로 변경
+ *          -2026.10.18
  */
 
 public interface MatrixRepository extends JpaRepository<Matrix, Long> {
 
-    // 운동기록들을 통해 매트릭스 정보 조회(중복o)
-    @Query("select new com.dnd.ground.domain.matrix.dto.MatrixDto(m.latitude, m.longitude) " +
-            "from Matrix m join m.exerciseRecord e where e in :exerciseRecords")
-    List<MatrixDto> findMatrixByRecords(List<ExerciseRecord> exerciseRecords);
+    // 회원의 (start-end)사이 운동기록의 칸 수 조회(중복o)
+    @Query("select count(m) from Matrix m join m.exerciseRecord e " +
+            "where e.user.id = :userId and e.started between :start and :end")
+    Long countMatrixBetween(@Param("userId") Long userId, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
 
-    // 운동기록들을 통해 매트릭스 정보 조회(중복x)
-    @Query("select distinct new com.dnd.ground.domain.matrix.dto.MatrixDto(m.latitude, m.longitude) " +
-            "from Matrix m join m.exerciseRecord e where e in :exerciseRecords")
-    List<MatrixDto> findMatrixSetByRecords(List<ExerciseRecord> exerciseRecords);
+    // 회원의 (start-end)사이 운동기록의 매트릭스 정보 조회(중복x, 칸 키 기준)
+    @Query("select distinct new com.dnd.ground.domain.matrix.dto.MatrixDto(m.cellKey) " +
+            "from Matrix m join m.exerciseRecord e where e.user.id = :userId and e.started between :start and :end")
+    List<MatrixDto> findMatrixSetBetween(@Param("userId") Long userId, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
 
-    // 운동기록을 통해 매트릭스 정보 조회(중복x)
-    @Query("select distinct new com.dnd.ground.domain.matrix.dto.MatrixDto(m.latitude, m.longitude) " +
-            "from Matrix m join m.exerciseRecord e where e = :exerciseRecord")
+    // 운동기록을 통해 매트릭스 정보 조회(중복x, 칸 키 기준)
+    @Query("select distinct new com.dnd.ground.domain.matrix.dto.MatrixDto(m.cellKey) " +
+            "from Matrix m where m.exerciseRecord = :exerciseRecord")
     List<MatrixDto> findMatrixSetByRecord(ExerciseRecord exerciseRecord);
 
+    // 회원별 기간 내 영역의 수 조회(중복x, 칸 키 기준) - 기록이 없는 회원은 결과에 없음
+    @Query("select new com.dnd.ground.domain.matrix.dto.MatrixQueryDto$UserCount(e.user.id, count(distinct m.cellKey)) " +
+            "from Matrix m join m.exerciseRecord e where e.user.id in :userIds and e.started between :start and :end " +
+            "group by e.user.id")
+    List<MatrixQueryDto.UserCount> findAreaCountsBetween(@Param("userIds") Collection<Long> userIds,
+                                                         @Param("start") LocalDateTime start,
+                                                         @Param("end") LocalDateTime end);
+
+    // 회원별 기간 내 칸의 수 조회(중복o) - 기록이 없는 회원은 결과에 없음
+    @Query("select new com.dnd.ground.domain.matrix.dto.MatrixQueryDto$UserCount(e.user.id, count(m)) " +
+            "from Matrix m join m.exerciseRecord e where e.user.id in :userIds and e.started between :start and :end " +
+            "group by e.user.id")
+    List<MatrixQueryDto.UserCount> findMatrixCountsBetween(@Param("userIds") Collection<Long> userIds,
+                                                           @Param("start") LocalDateTime start,
+                                                           @Param("end") LocalDateTime end);
+
+    // 회원별 기간 내 칸 조회(중복x, 칸 키 기준)
+    @Query("select distinct new com.dnd.ground.domain.matrix.dto.MatrixQueryDto$UserCell(e.user.id, m.cellKey) " +
+            "from Matrix m join m.exerciseRecord e where e.user.id in :userIds and e.started between :start and :end")
+    List<MatrixQueryDto.UserCell> findUserCellsBetween(@Param("userIds") Collection<Long> userIds,
+                                                       @Param("start") LocalDateTime start,
+                                                       @Param("end") LocalDateTime end);
+
+    // 회원별 since 이후 저장된 기록 중 (start ~ end 전)에 시작한 기록의 칸 조회(중복x, 칸 키 기준)
+    @Query("select distinct new com.dnd.ground.domain.matrix.dto.MatrixQueryDto$UserCell(e.user.id, m.cellKey) " +
+            "from Matrix m join m.exerciseRecord e " +
+            "where e.user.id in :userIds and e.created > :since and e.started >= :start and e.started < :end")
+    List<MatrixQueryDto.UserCell> findUserCellsCreatedAfter(@Param("userIds") Collection<Long> userIds,
+                                                            @Param("since") LocalDateTime since,
+                                                            @Param("start") LocalDateTime start,
+                                                            @Param("end") LocalDateTime end);
+
     // 운동 기록의 매트릭스 리스트 조회
     @Query("select m from Matrix m where m.exerciseRecord=:exerciseRecord")
     List<Matrix> findByRecord(@Param("exerciseRecord") ExerciseRecord exerciseRecord);
 
+    // 칸 키가 없는 기존 칸들의 칸 키 채우기 (MatrixUtil.toCellKey와 같은 계산)
+    // round()는 음수 .5를 Java와 다르게 반올림하므로 floor(x + 0.5) 사용
+    @Modifying(clearAutomatically = true)
+    @Query(value = "update matrix set cell_key = " +
+            "((floor(latitude * 1000000 + 0.5) + 90000000) << 32) | (floor(longitude * 1000000 + 0.5) + 180000000) " +
+            "where cell_key = 0 or cell_key is null", nativeQuery = true)
+    int backfillCellKey();
+
+    // 같은 기록 내 중복 칸 삭제 (칸 키가 같으면 가장 작은 id만 남김)
+    @Modifying(clearAutomatically = true)
+    @Query(value = "delete m1 from matrix m1 inner join matrix m2 " +
+            "on m1.exercise_record_id = m2.exercise_record_id and m1.cell_key = m2.cell_key and m1.matrix_id > m2.matrix_id", nativeQuery = true)
+    int deleteDuplicateCells();
+
+    // matrix_seq의 다음 id를 기존 칸들의 최대 id 이후로 맞추기(pooled-lo: next_val = 다음에 할당할 id)
+    @Modifying(clearAutomatically = true)
+    @Query(value = "update matrix_seq set next_val = (select coalesce(max(matrix_id), 0) + 1 from matrix) " +
+            "where next_val <= (select coalesce(max(matrix_id), 0) from matrix)", nativeQuery = true)
+    int backfillMatrixSequence();
 }
@@ -0,0 +1,79 @@
+package com.dnd.ground.domain.matrix.matrixRepository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.function.LongConsumer;
+
+/**
+ * @description 칸 키를 한 줄씩 읽어 전달하는(streaming) 리포지토리
+ *              1. 회원의 주간 칸 키
+ *              2. 회원들의 기간 내 칸 키(중복x, 회원 id 순)
+ * @since   2026-10-18
+ * @updated 1. 주간 칸 키, 기간 내 칸 키 streaming 조회 추가
+ *          2. 기간 내 칸 키를 회원 별 조회 대신 회원들을 한 번에 조회 (회원 id 순으로 전달)
+ *          - 2026-10-18
+ * @note 1. MySQL 드라이버는 fetchSize = Integer.MIN_VALUE 일 때 결과를 메모리에 모으지 않고 한 줄씩 전달
+ *       2. 트랜잭션 밖(StreamingResponseBody)에서 호출해도 되도록 JdbcTemplate 사용
+ */
+
+@Repository
+@RequiredArgsConstructor
+public class MatrixStreamRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String SELECT_WEEK_CELLS =
+            "select cell_key from user_week_cell where user_id = ? and week = ?";
+
+    private static final String SELECT_USER_CELLS_BETWEEN =
+            "select distinct e.user_id, m.cell_key from matrix m " +
+            "inner join exercise_record e on m.exercise_record_id = e.exercise_record_id " +
+            "where e.user_id in (%s) and e.started between ? and ? order by e.user_id";
+
+    // 회원 id, 칸 키를 받는 consumer
+    @FunctionalInterface
+    public interface UserCellConsumer {
+        void accept(long userId, long cellKey);
+    }
+
+    // 회원의 주간 칸 키
+    public void streamWeekCells(Long userId, int week, LongConsumer consumer) {
+        stream(SELECT_WEEK_CELLS, consumer, userId, week);
+    }
+
+    // 회원들의 (start-end)사이 기록의 칸 키(중복x, 회원 id 순으로 전달)
+    public void streamUserCellsBetween(Collection<Long> userIds, LocalDateTime start, LocalDateTime end, UserCellConsumer consumer) {
+        if (userIds.isEmpty()) return;
+
+        Object[] args = new Object[userIds.size() + 2];
+        int index = 0;
+        for (Long userId : userIds) args[index++] = userId;
+        args[index++] = Timestamp.valueOf(start);
+        args[index] = Timestamp.valueOf(end);
+
+        String sql = String.format(SELECT_USER_CELLS_BETWEEN, String.join(", ", Collections.nCopies(userIds.size(), "?")));
+        streamRows(sql, rs -> consumer.accept(rs.getLong(1), rs.getLong(2)), args);
+    }
+
+    private void stream(String sql, LongConsumer consumer, Object... args) {
+        streamRows(sql, rs -> consumer.accept(rs.getLong(1)), args);
+    }
+
+    private void streamRows(String sql, RowCallbackHandler handler, Object... args) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(Integer.MIN_VALUE);
+            for (int i = 0; i < args.length; i++) ps.setObject(i + 1, args[i]);
+            return ps;
+        }, handler);
+    }
+}
@@ -0,0 +1,56 @@
+package com.dnd.ground.domain.matrix.matrixRepository;
+
+import com.dnd.ground.domain.matrix.UserWeekCell;
+import com.dnd.ground.domain.matrix.dto.MatrixQueryDto;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * @description 회원의 주간 영역(칸) 집계 리포지토리
+ * @since   2026-10-18
+ * @updated 1. 회원들의 주간 칸 조회, 기존 칸 backfill 쿼리 추가
+ *          2. 회원의 주간 칸 키 조회 추가
+ *          3. 회원들의 지도 화면 범위 내 주간 칸 조회 추가
+ *          4. 회원의 주간 칸 삭제 추가
+ *          - 2026-10-18
+ */
+
+public interface UserWeekCellRepository extends JpaRepository<UserWeekCell, UserWeekCell.Key> {
+
+    // 회원들의 주간 칸 조회
+    @Query("select new com.dnd.ground.domain.matrix.dto.MatrixQueryDto$UserCell(c.userId, c.cellKey) " +
+            "from UserWeekCell c where c.userId in :userIds and c.week = :week")
+    List<MatrixQueryDto.UserCell> findUserCells(@Param("userIds") Collection<Long> userIds, @Param("week") Integer week);
+
+    // 회원들의 지도 화면 범위 내 주간 칸 조회
+    // 위도 범위 = 칸 키 범위 (PK(user_id, week, cell_key) range scan), 경도 범위 = 칸 키 하위 32비트
+    @Query("select new com.dnd.ground.domain.matrix.dto.MatrixQueryDto$UserCell(c.userId, c.cellKey) " +
+            "from UserWeekCell c where c.userId in :userIds and c.week = :week " +
+            "and c.cellKey between :minCellKey and :maxCellKey " +
+            "and mod(c.cellKey, :lonRange) between :minLonIndex and :maxLonIndex")
+    List<MatrixQueryDto.UserCell> findUserCellsInViewport(@Param("userIds") Collection<Long> userIds, @Param("week") Integer week,
+                                                          @Param("minCellKey") Long minCellKey, @Param("maxCellKey") Long maxCellKey,
+                                                          @Param("lonRange") Long lonRange,
+                                                          @Param("minLonIndex") Long minLonIndex, @Param("maxLonIndex") Long maxLonIndex);
+
+    // 회원의 주간 칸 키 조회
+    @Query("select c.cellKey from UserWeekCell c where c.userId = :userId and c.week = :week")
+    List<Long> findCellKeys(@Param("userId") Long userId, @Param("week") Integer week);
+
+    // 회원의 주간 칸 삭제
+    @Modifying(clearAutomatically = true)
+    @Query("delete from UserWeekCell c where c.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    // 기존 칸들로 주간 칸 채우기 (주 키 = YEARWEEK(기록 시작 시간, 3))
+    @Modifying(clearAutomatically = true)
+    @Query(value = "insert ignore into user_week_cell(user_id, week, cell_key) " +
+            "select e.user_id, yearweek(e.started, 3), m.cell_key " +
+            "from matrix m inner join exercise_record e on m.exercise_record_id = e.exercise_record_id", nativeQuery = true)
+    int backfillUserWeekCell();
+}
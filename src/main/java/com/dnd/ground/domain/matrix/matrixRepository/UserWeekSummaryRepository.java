@@ -0,0 +1,65 @@
+package com.dnd.ground.domain.matrix.matrixRepository;
+
+import com.dnd.ground.domain.matrix.UserWeekSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.Tuple;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * @description 회원의 주간 영역 수, 칸 수 집계 리포지토리
+ * @since   2026-10-18
+ * @updated 1. 회원(들)의 주간 집계 조회, 기존 칸 backfill 쿼리 추가
+ *          2. 회원의 이전 주 집계 조회 추가 (사용처가 없어 삭제)
+ *          3. 전체 회원의 주간 집계, 역대 누적 칸 수 조회 추가
+ *          4. 회원의 주간 영역 수 조회 추가
+ *          5. 회원의 주간 집계 삭제 추가
+ *          6. 회원의 주간 칸 수, 회원들의 주간 영역 수 조회 추가 (비트맵을 읽지 않는 조회)
+ *          7. 회원들의 주간 집계 조회 삭제, backfill에서 비트맵 초기화 삭제 (비트맵 컬럼 삭제)
+ *          - 2026-10-18
+ */
+
+public interface UserWeekSummaryRepository extends JpaRepository<UserWeekSummary, UserWeekSummary.Key> {
+
+    // 회원의 주간 집계 조회
+    Optional<UserWeekSummary> findByUserIdAndWeek(Long userId, Integer week);
+
+    // 회원의 주간 영역 수 조회
+    @Query("select s.areaCount from UserWeekSummary s where s.userId = :userId and s.week = :week")
+    Optional<Long> findAreaCount(@Param("userId") Long userId, @Param("week") Integer week);
+
+    // 회원의 주간 칸 수 조회
+    @Query("select s.matrixCount from UserWeekSummary s where s.userId = :userId and s.week = :week")
+    Optional<Long> findMatrixCount(@Param("userId") Long userId, @Param("week") Integer week);
+
+    // 회원들의 주간 영역 수 조회 [회원 id, 영역 수]
+    @Query("select s.userId, s.areaCount from UserWeekSummary s where s.userId in :userIds and s.week = :week")
+    List<Tuple> findAreaCounts(@Param("userIds") Collection<Long> userIds, @Param("week") Integer week);
+
+    // 전체 회원의 주간 영역 수, 칸 수 조회 [회원 id, 영역 수, 칸 수]
+    @Query("select s.userId, s.areaCount, s.matrixCount from UserWeekSummary s where s.week = :week")
+    List<Tuple> findAllCountsByWeek(@Param("week") Integer week);
+
+    // 전체 회원의 역대 누적 칸 수 조회 [회원 id, 칸 수]
+    @Query("select s.userId, sum(s.matrixCount) from UserWeekSummary s group by s.userId")
+    List<Tuple> findAllMatrixCount();
+
+    // 회원의 주간 집계 삭제
+    @Modifying(clearAutomatically = true)
+    @Query("delete from UserWeekSummary s where s.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    // 기존 칸들로 주간 집계 다시 계산 (주 키 = YEARWEEK(기록 시작 시간, 3))
+    @Modifying(clearAutomatically = true)
+    @Query(value = "insert into user_week_summary(user_id, week, area_count, matrix_count) " +
+            "select e.user_id, yearweek(e.started, 3), count(distinct m.cell_key), count(*) " +
+            "from matrix m inner join exercise_record e on m.exercise_record_id = e.exercise_record_id " +
+            "group by e.user_id, yearweek(e.started, 3) " +
+            "on duplicate key update area_count = values(area_count), matrix_count = values(matrix_count)", nativeQuery = true)
+    int backfillUserWeekSummary();
+}
@@ -1,6 +1,5 @@
 package com.dnd.ground.domain.matrix.matrixService;
 
-import com.dnd.ground.domain.challenge.Challenge;
 import com.dnd.ground.domain.matrix.Matrix;
 import com.dnd.ground.domain.user.User;
 import com.dnd.ground.domain.user.dto.RankResponseDto;
@@ -9,21 +8,24 @@ import com.dnd.ground.domain.user.dto.UserResponseDto;
 
 import javax.persistence.Tuple;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * @description 운동 영역 서비스 인터페이스
  * @author  박세헌
  * @since   2022-08-01
  * @updated 2022-08-26 / 컨트롤러-서비스단 전달 형태 변경 - 박세헌
- *
+ *          2026-10-18 / 회원별 기간 내 영역 수 조회 추가
+ *          2026-10-18 / 챌린지 랭킹 조회 삭제
  */
 
 public interface MatrixService {
     Matrix save(Matrix matrix);
     RankResponseDto.Matrix matrixRanking(String nickname);
     RankResponseDto.Area areaRanking(UserRequestDto.LookUp requestDto);
-    RankResponseDto.Area challengeRank(Challenge challenge, LocalDateTime start, LocalDateTime end);
+    Map<Long, Long> findAreaCounts(Collection<Long> userIds, LocalDateTime start, LocalDateTime end);
 
     List<UserResponseDto.Ranking> calculateMatrixRank(List<Tuple> matrixCount, List<User> member);
     List<UserResponseDto.Ranking> calculateAreaRank(List<UserResponseDto.Ranking> areaRankings);
@@ -1,11 +1,12 @@
 package com.dnd.ground.domain.matrix.matrixService;
 
-import com.dnd.ground.domain.challenge.Challenge;
-import com.dnd.ground.domain.challenge.repository.UserChallengeRepository;
 import com.dnd.ground.domain.exerciseRecord.Repository.ExerciseRecordRepository;
+import com.dnd.ground.domain.exerciseRecord.service.LeaderboardService;
 import com.dnd.ground.domain.friend.service.FriendService;
 import com.dnd.ground.domain.matrix.Matrix;
+import com.dnd.ground.domain.matrix.dto.MatrixQueryDto;
 import com.dnd.ground.domain.matrix.matrixRepository.MatrixRepository;
+import com.dnd.ground.domain.matrix.matrixRepository.UserWeekSummaryRepository;
 import com.dnd.ground.domain.user.User;
 import com.dnd.ground.domain.user.dto.RankResponseDto;
 import com.dnd.ground.domain.user.dto.UserRequestDto;
@@ -13,22 +14,38 @@ import com.dnd.ground.domain.user.dto.UserResponseDto;
 import com.dnd.ground.domain.user.repository.UserRepository;
 import com.dnd.ground.global.exception.CNotFoundException;
 import com.dnd.ground.global.exception.CommonErrorCode;
+import com.dnd.ground.global.util.SingleFlight;
+import com.dnd.ground.global.util.WeekUtil;
 import lombok.*;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import javax.persistence.Tuple;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 /**
  * @description 운동 영역 서비스 클래스
  * @author  박세헌, 박찬호
  * @since   2022-08-01
  * @updated 2022-08-26 / 컨트롤러-서비스단 전달 형태 변경 - 박세헌
+ *          2026-10-18 / 영역의 수를 칸 키 count(distinct)로 조회
+ *          2026-10-18 / 한 주 전체 영역 랭킹은 주간 집계(user_week_summary)에서 조회
+ *          2026-10-18 / 영역 랭킹, 챌린지 랭킹의 영역 수를 회원별 group by 쿼리 한 번으로 조회
+ *          2026-10-18 / 역대 누적 칸 수 랭킹, 이번주 영역 랭킹을 메모리 랭킹에서 조회
+ *          2026-10-18 / 동시에 들어온 같은 역대 누적 칸 수 랭킹 조회는 한 번만 조회(single-flight)
+ *          2026-10-18 / 챌린지 랭킹 조회 삭제 (진행 중인 챌린지 랭킹은 챌린지 점수에서 조회)
+ *          2026-10-18 / 역대 누적 칸 수 랭킹 조회 트랜잭션을 single-flight가 아닌 조회에서 시작
+ *          2026-10-18 / 한 주 전체 영역 랭킹은 주간 집계의 영역 수만 조회 (비트맵 제외)
  */
 
 @Service
@@ -39,7 +56,10 @@ public class MatrixServiceImpl implements MatrixService {
     private final UserRepository userRepository;
     private final FriendService friendService;
     private final ExerciseRecordRepository exerciseRecordRepository;
-    private final UserChallengeRepository userChallengeRepository;
+    private final UserWeekSummaryRepository userWeekSummaryRepository;
+    private final LeaderboardService leaderboardService;
+    private final SingleFlight singleFlight;
+    private final TransactionTemplate transactionTemplate;
 
     @Transactional
     public Matrix save(Matrix matrix){
@@ -47,13 +67,25 @@ public class MatrixServiceImpl implements MatrixService {
     }
 
     // 랭킹 조회(역대 누적 칸의 수 기준)
+    // 같은 회원의 조회가 진행 중이면 그 결과를 함께 사용
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public RankResponseDto.Matrix matrixRanking(String nickname) {
+        return singleFlight.execute("rank/accumulate:" + nickname,
+                () -> transactionTemplate.execute(status -> loadMatrixRanking(nickname)));
+    }
+
+    private RankResponseDto.Matrix loadMatrixRanking(String nickname) {
         User user = userRepository.findByNickname(nickname).orElseThrow(
                 () -> new CNotFoundException(CommonErrorCode.NOT_FOUND_USER));
 
         List<User> userAndFriends = friendService.getFriends(user);  // 친구들 조회
         userAndFriends.add(user);  // 유저 추가
 
+        // 메모리 랭킹에서 조회
+        if (leaderboardService.isReady()) {
+            return new RankResponseDto.Matrix(leaderboardService.getRankings(userAndFriends, LeaderboardService.Type.ALL_MATRIX));
+        }
+
         LocalDateTime start = user.getCreated();
         LocalDateTime end = LocalDateTime.now();
 
@@ -80,35 +112,43 @@ public class MatrixServiceImpl implements MatrixService {
 
         List<UserResponseDto.Ranking> areaRankings = new ArrayList<>();  // [랭킹, 닉네임, 영역의 수]
 
-        // 유저의 닉네임과 영역의 수 대입
-        areaRankings.add(new UserResponseDto.Ranking(1, user.getNickname(),
-                (long) matrixRepository.findMatrixSetByRecords(exerciseRecordRepository.findRecord(user.getId(), start, end)).size(), user.getPicturePath()));
+        List<User> userAndFriends = new ArrayList<>(friends);
+        userAndFriends.add(0, user);
+        List<Long> userIds = userAndFriends.stream().map(User::getId).collect(Collectors.toList());
 
-        // 친구들의 닉네임과 영역의 수 대입
-        friends.forEach(f -> areaRankings.add(new UserResponseDto.Ranking(1, f.getNickname(),
-                (long) matrixRepository.findMatrixSetByRecords(exerciseRecordRepository.findRecord(f.getId(), start, end)).size(), f.getPicturePath())));
+        // 이번주 전체 조회라면 메모리 랭킹에서 조회
+        if (leaderboardService.isReady() && WeekUtil.isWholeWeek(start, end) && WeekUtil.toWeek(start) == WeekUtil.thisWeek()) {
+            return new RankResponseDto.Area(leaderboardService.getRankings(userAndFriends, LeaderboardService.Type.WEEK_AREA));
+        }
+
+        // 한 주 전체 조회라면 주간 집계, 아니라면 기간 내 칸에서 영역의 수 조회
+        Map<Long, Long> areaCounts;
+        if (WeekUtil.isWholeWeek(start, end)) {
+            areaCounts = new HashMap<>();
+            for (Tuple count : userWeekSummaryRepository.findAreaCounts(userIds, WeekUtil.toWeek(start))) {
+                areaCounts.put((Long) count.get(0), (Long) count.get(1));
+            }
+        } else {
+            areaCounts = findAreaCounts(userIds, start, end);
+        }
+
+        // 유저와 친구들의 닉네임과 영역의 수 대입
+        userAndFriends.forEach(u -> areaRankings.add(new UserResponseDto.Ranking(1, u.getNickname(),
+                areaCounts.getOrDefault(u.getId(), 0L), u.getPicturePath())));
 
         // 랭킹 계산 후 반환
         return new RankResponseDto.Area(calculateUserAreaRank(areaRankings, user));
     }
 
-    /*챌린지 랭킹 조회*/
-    public RankResponseDto.Area challengeRank(Challenge challenge, LocalDateTime start, LocalDateTime end) {
-        List<User> member = userChallengeRepository.findChallengeUsers(challenge);//챌린지에 참여하는 회원 리스트
-        List<UserResponseDto.Ranking> areaRankings = new ArrayList<>();
-
-        for (User m : member) {
-            areaRankings.add(
-                    new UserResponseDto.Ranking(
-                            1,
-                            m.getNickname(),
-                            (long) matrixRepository.findMatrixSetByRecords(exerciseRecordRepository.findRecord(m.getId(), start, end)).size(),
-                            m.getPicturePath())
-            );
-        }
+    /*회원별 기간 내 영역의 수 조회 (기록이 없는 회원은 결과에 없음)*/
+    public Map<Long, Long> findAreaCounts(Collection<Long> userIds, LocalDateTime start, LocalDateTime end) {
+        Map<Long, Long> areaCounts = new HashMap<>();
+        if (userIds.isEmpty()) return areaCounts;
 
-        //랭킹 계산 후 반환
-        return new RankResponseDto.Area(calculateAreaRank(areaRankings));
+        for (MatrixQueryDto.UserCount count : matrixRepository.findAreaCountsBetween(userIds, start, end)) {
+            areaCounts.put(count.getUserId(), count.getCount());
+        }
+        return areaCounts;
     }
 
     /*칸 수 기준 랭킹 계산*/
@@ -0,0 +1,22 @@
+package com.dnd.ground.domain.matrix.matrixService;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * @description 회원의 주간 영역 집계 서비스 인터페이스
+ * @since   2026-10-18
+ * @updated 1. 기록 끝 시 주간 영역 집계 갱신
+ *          2. 주간 칸 집합(비트맵) 조회 및 집합 연산 추가
+ *          3. 기록 끝 시 갱신된 주간 영역 수 반환
+ *          4. 사용하지 않는 집합 연산 삭제
+ *          5. 주간 칸 집합(비트맵) 조회 대신 주간 영역 수 조회, 비트맵 backfill 삭제
+ *          - 2026-10-18
+ */
+
+public interface TerritoryService {
+    long addCells(Long userId, LocalDateTime started, long[] cellKeys, int matrixCount);
+
+    Map<Long, Long> getWeekAreaCounts(Collection<Long> userIds, int week);
+}
@@ -0,0 +1,107 @@
+package com.dnd.ground.domain.matrix.matrixService;
+
+import com.dnd.ground.domain.matrix.matrixRepository.UserWeekSummaryRepository;
+import com.dnd.ground.global.util.WeekUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.Tuple;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * @description 회원의 주간 영역 집계 서비스 클래스
+ *              1. user_week_cell: 회원 - 주 별 칸(중복x)
+ *              2. user_week_summary: 회원 - 주 별 영역 수(중복x), 칸 수(중복o)
+ *              3. 회원들의 주간 영역 수 조회
+ * @since   2026-10-18
+ * @updated 1. 기록 끝 시 주간 영역 집계 갱신
+ *          2. 영역 수를 비트맵 크기로 갱신, 비트맵 집합 연산 추가
+ *          3. 기록 끝 시 갱신된 주간 영역 수 반환
+ *          4. 기록 끝 시 중복 제거된 칸 키 배열을 받도록 변경
+ *          5. 주간 집계 행을 먼저 만들거나 잠근 후 칸 추가 (처음 기록하는 주의 동시 기록 끝 deadlock 방지)
+ *          6. 사용하지 않는 집합 연산(합집합, 겹치는 영역, 새로 채운 영역) 삭제
+ *          7. 주간 칸 집합 비트맵 삭제, 영역 수는 user_week_cell에 새로 추가된 칸 수만큼 증가
+ *          - 2026-10-18
+ * @note 1. 호출한 쪽(recordEnd)의 트랜잭션에 참여
+ *       2. 주간 집계 행은 insert ... on duplicate key update로 만들거나 배타 잠금 (같은 회원 - 주의 기록 끝은 순서대로 처리)
+ *          - 없는 행을 select for update 하면 gap lock끼리 충돌해서 deadlock
+ *          - insert ignore는 이미 있는 행에 공유 잠금을 걸어서, 이후 for update에서 deadlock
+ *       3. 이미 있는 칸은 insert ignore로 무시, 영역 수 += insert ignore의 affected rows (새로 추가된 칸 수)
+ *          - 집계 행을 잠근 상태라 같은 회원 - 주의 다른 기록 끝과 겹치지 않음
+ *       4. 주간 칸 집합은 user_week_cell(PK: 회원, 주, 칸 키)이 그대로 가지고 있어서 비트맵을 따로 저장하지 않음
+ *          - 비트맵은 영역 수(크기)에만 쓰였고, 기록 끝마다 비트맵 전체를 읽고 다시 쓰는 비용만 들었음
+ *          - 기존 DB의 cell_bitmap 컬럼은 nullable이라 남아 있어도 됨 (ddl-auto update는 컬럼을 지우지 않음)
+ */
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class TerritoryServiceImpl implements TerritoryService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserWeekSummaryRepository userWeekSummaryRepository;
+
+    private static final int INSERT_CHUNK_SIZE = 1000;  // multi-row insert 한 번에 넣는 칸 수
+
+    private static final String INSERT_CELLS =
+            "insert ignore into user_week_cell(user_id, week, cell_key) values ";
+
+    private static final String LOCK_SUMMARY =
+            "insert into user_week_summary(user_id, week, area_count, matrix_count) values (?, ?, 0, 0) " +
+            "on duplicate key update user_id = user_id";
+
+    private static final String SELECT_AREA_COUNT_FOR_UPDATE =
+            "select area_count from user_week_summary where user_id = ? and week = ? for update";
+
+    private static final String UPDATE_SUMMARY =
+            "update user_week_summary set area_count = ?, matrix_count = matrix_count + ? " +
+            "where user_id = ? and week = ?";
+
+    // 기록의 칸들을 기록 시작 시간이 속한 주의 집계에 추가 (반환: 갱신된 주간 영역 수)
+    public long addCells(Long userId, LocalDateTime started, long[] cellKeys, int matrixCount) {
+        int week = WeekUtil.toWeek(started);
+
+        // 주간 집계 행을 만들거나 잠금 (같은 회원 - 주의 다른 기록 끝은 커밋까지 대기)
+        jdbcTemplate.update(LOCK_SUMMARY, userId, week);
+        Long saved = jdbcTemplate.queryForObject(SELECT_AREA_COUNT_FOR_UPDATE, Long.class, userId, week);
+
+        // 처음 채운 칸만 추가되고, 추가된 칸 수만큼 영역 수 증가
+        long areaCount = saved + insertCells(userId, week, cellKeys);
+        jdbcTemplate.update(UPDATE_SUMMARY, areaCount, matrixCount, userId, week);
+        return areaCount;
+    }
+
+    // 회원들의 주간 영역 수 (기록이 없는 회원은 0)
+    @Transactional(readOnly = true)
+    public Map<Long, Long> getWeekAreaCounts(Collection<Long> userIds, int week) {
+        Map<Long, Long> result = new HashMap<>();
+        userIds.forEach(id -> result.put(id, 0L));
+        for (Tuple count : userWeekSummaryRepository.findAreaCounts(userIds, week)) {
+            result.put((Long) count.get(0), (Long) count.get(1));
+        }
+        return result;
+    }
+
+    // user_week_cell에 칸 추가 (반환: 새로 추가된 칸 수)
+    private int insertCells(Long userId, int week, long[] cellKeys) {
+        int inserted = 0;
+        for (int from = 0; from < cellKeys.length; from += INSERT_CHUNK_SIZE) {
+            int to = Math.min(from + INSERT_CHUNK_SIZE, cellKeys.length);
+
+            StringBuilder sql = new StringBuilder(INSERT_CELLS);
+            Object[] args = new Object[(to - from) * 3];
+            for (int i = from; i < to; i++) {
+                sql.append(i == from ? "(?, ?, ?)" : ", (?, ?, ?)");
+                int index = (i - from) * 3;
+                args[index] = userId;
+                args[index + 1] = week;
+                args[index + 2] = cellKeys[i];
+            }
+            inserted += jdbcTemplate.update(sql.toString(), args);
+        }
+        return inserted;
+    }
+}
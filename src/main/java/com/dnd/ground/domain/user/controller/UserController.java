@@ -3,13 +3,17 @@ package com.dnd.ground.domain.user.controller;
 import com.dnd.ground.domain.exerciseRecord.dto.RecordRequestDto;
 import com.dnd.ground.domain.exerciseRecord.dto.RecordResponseDto;
 import com.dnd.ground.domain.friend.dto.FriendResponseDto;
+import com.dnd.ground.domain.matrix.dto.MatrixRequestDto;
+import com.dnd.ground.domain.user.dto.HomeDeltaResponseDto;
 import com.dnd.ground.domain.user.dto.UserRequestDto;
 import com.dnd.ground.domain.user.dto.UserResponseDto;
 import io.swagger.annotations.ApiParam;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.multipart.MultipartFile;
 
 
@@ -19,10 +23,16 @@ import org.springframework.web.multipart.MultipartFile;
  * @since   2022-08-02
  * @updated 1.회원 정보 수정 구현 완료
  *          - 2022-10-22 박찬호
+ *          2.홈 화면 조회에 지도 화면 범위 추가
+ *          3.홈 화면 변경분 조회 추가
+ *          4.홈 화면 streaming 조회 추가
+ *          - 2026-10-18
  */
 
 public interface UserController {
-    ResponseEntity<?> home(@RequestParam("nickName") String nickName);
+    ResponseEntity<?> home(@RequestParam("nickName") String nickName, @ModelAttribute MatrixRequestDto.Viewport viewport);
+    ResponseEntity<HomeDeltaResponseDto> homeDelta(@RequestBody UserRequestDto.HomeDelta requestDto);
+    ResponseEntity<StreamingResponseBody> homeStream(@RequestParam("nickname") String nickName);
     ResponseEntity<UserResponseDto.MyPage> getUserInfo(@RequestParam("nickname") String nickname);
     ResponseEntity<FriendResponseDto.FriendProfile> getUserProfile(
             @ApiParam(value = "회원 닉네임", required = true) @RequestParam("user") String userNickname,
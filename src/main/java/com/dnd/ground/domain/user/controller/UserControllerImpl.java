@@ -3,7 +3,9 @@ package com.dnd.ground.domain.user.controller;
 import com.dnd.ground.domain.exerciseRecord.dto.RecordRequestDto;
 import com.dnd.ground.domain.exerciseRecord.dto.RecordResponseDto;
 import com.dnd.ground.domain.friend.dto.FriendResponseDto;
+import com.dnd.ground.domain.matrix.dto.MatrixRequestDto;
 import com.dnd.ground.domain.user.User;
+import com.dnd.ground.domain.user.dto.HomeDeltaResponseDto;
 import com.dnd.ground.domain.user.dto.HomeResponseDto;
 import com.dnd.ground.domain.user.dto.UserRequestDto;
 import com.dnd.ground.domain.user.dto.UserResponseDto;
@@ -18,6 +20,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * @description 회원 관련 컨트롤러 구현체
@@ -25,6 +28,10 @@ import org.springframework.web.multipart.MultipartFile;
  * @since   2022-08-02
  * @updated 1.회원 정보 수정 구현 완료
  *          - 2022-10-22 박찬호
+ *          2.홈 화면 조회에 지도 화면 범위 추가
+ *          3.홈 화면 변경분 조회 추가
+ *          4.홈 화면 streaming 조회 추가
+ *          - 2026-10-18
  */
 
 @Api(tags = "회원")
@@ -41,9 +48,27 @@ public class UserControllerImpl implements UserController {
     @Operation(summary = "홈 화면 조회",
             description = "닉네임을 통해 홈화면에 필요한 유저 정보(userMatrices)\n" +
                     "나와 챌린지를 안하는 친구 정보(friendMatrices, 리스트)\n" +
-                    "나와 챌린지를 하는 유저 정보(challengeMatrices, 리스트) 조회")
-    public ResponseEntity<HomeResponseDto> home(@RequestParam("nickname") String nickName){
-        return ResponseEntity.ok(userService.showHome(nickName));
+                    "나와 챌린지를 하는 유저 정보(challengeMatrices, 리스트) 조회\n" +
+                    "minLat, maxLat, minLon, maxLon(선택): 지도 화면 범위 내 칸만 조회")
+    public ResponseEntity<HomeResponseDto> home(@RequestParam("nickname") String nickName,
+                                                @ModelAttribute MatrixRequestDto.Viewport viewport){
+        return ResponseEntity.ok(userService.showHome(nickName, viewport));
+    }
+
+    @GetMapping("/home/stream")
+    @Operation(summary = "홈 화면 조회(streaming)",
+            description = "/home과 같은 응답을 칸 리스트를 메모리에 모으지 않고 바로 작성")
+    public ResponseEntity<StreamingResponseBody> homeStream(@RequestParam("nickname") String nickName){
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(userService.showHomeStream(nickName));
+    }
+
+    @PostMapping("/home/delta")
+    @Operation(summary = "홈 화면 변경분 조회",
+            description = "version(이전 응답 시간) 이후 추가된 칸과 메인화면에서 사라진 회원(removedNicknames) 조회\n" +
+                    "version이 없거나 주가 바뀌면 fullSync=true, 전체 홈화면 반환\n" +
+                    "nicknames: 클라이언트가 가지고 있는 회원 닉네임 리스트(새로운 회원은 전체 칸 반환)")
+    public ResponseEntity<HomeDeltaResponseDto> homeDelta(@RequestBody UserRequestDto.HomeDelta requestDto){
+        return ResponseEntity.ok(userService.showHomeDelta(requestDto));
     }
 
     @GetMapping("/info")
@@ -0,0 +1,34 @@
+package com.dnd.ground.domain.user.dto;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * @description 홈화면 변경분 Response Dto
+ * @since   2026-10-18
+ * @updated 1. version, 전체 동기화 여부, 사라진 회원, 변경된 영역 추가
+ *          - 2026-10-18
+ * @note 1. fullSync = true: 클라이언트는 가지고 있던 영역을 모두 지우고 home으로 교체
+ *       2. fullSync = false: home의 칸들은 version 이후 추가된 칸(새로운 회원은 전체 칸), 닉네임 기준으로 기존 칸에 합침
+ *       3. 다음 요청 시 응답의 version을 그대로 전달
+ *       4. home.timedOutSections가 있으면 version은 요청의 version 그대로 (다음 요청에서 같은 기간부터 다시 조회)
+ */
+
+@Data @Builder
+public class HomeDeltaResponseDto {
+
+    @ApiModelProperty(value="다음 요청에 전달할 version", example="1661239200000")
+    private Long version;
+
+    @ApiModelProperty(value="전체 동기화 여부(version이 없거나 주가 바뀐 경우)", example="false")
+    private Boolean fullSync;
+
+    @ApiModelProperty(value="메인화면에서 사라진 회원 닉네임 리스트(tombstone)", example="[\"NickB\"]")
+    private List<String> removedNicknames;
+
+    @ApiModelProperty(value="변경된 홈화면 정보")
+    private HomeResponseDto home;
+}
@@ -13,6 +13,8 @@ import java.util.*;
  * @since   2022-08-02
  * @updated 1. 메인화면 필터와 관련된 필드 추가
  *          - 2022.08.08 박찬호
+ *          2. 시간 초과로 비어 있는 섹션 필드 추가
+ *          - 2026.10.18
  */
 
 @Data @Builder
@@ -38,4 +40,8 @@ public class HomeResponseDto {
 
     @ApiModelProperty(value="메인화면 필터: 친구들에게 보이기", example="true")
     private Boolean isPublicRecord;
+
+    @ApiModelProperty(value="조회 시간 초과로 비어 있는 섹션(userMatrices, friendMatrices, challengeMatrices)", example="[\"friendMatrices\"]")
+    @Builder.Default
+    private List<String> timedOutSections = new ArrayList<>();
 }
@@ -16,6 +16,8 @@ import java.util.List;
  * @since   2022-08-18
  * @updated 1.회원 정보 수정 구현 완료
  *          - 2022-10-22 박찬호
+ *          2.메인화면 변경분 조회 DTO 추가
+ *          - 2026-10-18
  */
 
 @Data
@@ -38,6 +40,19 @@ public class UserRequestDto {
         //..필터 추가 예정
     }
 
+    /*메인화면 변경분 조회 시 사용하는 DTO*/
+    @Data
+    static public class HomeDelta {
+        @ApiModelProperty(name = "유저의 닉네임", example = "NickA", required = true)
+        private String nickname;
+
+        @ApiModelProperty(name = "이전 응답의 version(없으면 전체 조회)", example = "1661239200000")
+        private Long version;
+
+        @ApiModelProperty(name = "클라이언트가 가지고 있는 회원 닉네임 리스트", example = "[\"NickA\", \"NickB\"]")
+        private List<String> nicknames;
+    }
+
     @Data
     static public class LookUp{
 
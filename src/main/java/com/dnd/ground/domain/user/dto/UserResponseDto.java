@@ -88,7 +88,7 @@ public class UserResponseDto {
     }
 
     /*회원의 영역 정보 관련 DTO*/
-    @Data
+    @Data @AllArgsConstructor
     static public class UserMatrix {
         @ApiModelProperty(value = "닉네임", example = "NickA")
         private String nickname;
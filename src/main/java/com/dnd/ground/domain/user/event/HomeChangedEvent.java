@@ -0,0 +1,28 @@
+package com.dnd.ground.domain.user.event;
+
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * @description 메인화면 변경 이벤트
+ *              1. 친구 수락/삭제, 챌린지 상태 변경, 필터 변경, 프로필 수정
+ * @since   2026-10-18
+ * @updated 1. 메인화면이 바뀐 회원 id 전달
+ *          - 2026-10-18
+ * @note 1. 해당 회원이 보이는 모든 메인화면 캐시를 커밋 후 무효화(HomeSnapshotCache)
+ */
+
+@Getter
+public class HomeChangedEvent {
+    private final List<Long> userIds;
+
+    public HomeChangedEvent(Collection<Long> userIds) {
+        this.userIds = List.copyOf(userIds);
+    }
+
+    public HomeChangedEvent(Long... userIds) {
+        this.userIds = List.of(userIds);
+    }
+}
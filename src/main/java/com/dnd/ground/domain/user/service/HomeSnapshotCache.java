@@ -0,0 +1,160 @@
+package com.dnd.ground.domain.user.service;
+
+import com.dnd.ground.domain.exerciseRecord.event.RecordEndEvent;
+import com.dnd.ground.domain.user.dto.HomeResponseDto;
+import com.dnd.ground.domain.user.event.HomeChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @description 회원별 메인화면(전체 영역) 캐시
+ *              1. 닉네임 -> 메인화면 응답, 응답에 보이는 회원 id, 주 키
+ *              2. 크기 제한 + TTL 만료
+ *              3. 기록 끝, 메인화면 변경 이벤트 커밋 후 해당 회원이 보이는 캐시 무효화
+ * @since   2026-10-18
+ * @updated 1. 메인화면 캐시 추가
+ *          2. 회원 id -> 캐시 항목 색인으로 무효화, 회원별 무효화 시점(version)으로 저장 여부 판단
+ *          3. 회원별 무효화 시점도 캐시와 같은 크기 제한 + TTL로 보관 (제거된 시점보다 먼저 시작한 조회는 저장x)
+ *          - 2026-10-18
+ * @note 1. 캐시된 응답은 여러 요청이 공유하므로 수정 금지
+ *       2. 조회 시작 후 응답에 보이는 회원이 무효화되었으면 조회 결과를 저장하지 않음 (커밋 전 데이터로 만든 응답 방지)
+ *          - 다른 회원의 무효화는 저장에 영향 없음
+ *          - 회원별 마지막 무효화 시점은 크기 제한 + TTL로 보관, 제거된 시점 중 가장 최근 시점(evicted) 이전에 시작한 조회는 저장하지 않음
+ *       3. 서버 1대 기준: 다른 서버의 변경은 TTL 만료 후 반영
+ *       4. 캐시 항목이 제거(무효화, 교체, 만료, 크기 초과)되면 색인에서도 제거 (제거 listener는 호출한 스레드에서 실행)
+ */
+
+@Slf4j
+@Component
+public class HomeSnapshotCache {
+
+    private final Cache<String, Snapshot> cache;
+    private final ConcurrentHashMap<Long, Set<Snapshot>> viewers = new ConcurrentHashMap<>();  // 회원 id -> 회원이 보이는 캐시 항목
+    private final Cache<Long, Long> versions;  // 회원 id -> 마지막 무효화 시점
+    private final AtomicLong evicted = new AtomicLong();  // versions에서 제거된 무효화 시점 중 가장 최근 시점
+    private final AtomicLong clock = new AtomicLong();
+
+    public HomeSnapshotCache(@Value("${home.cache.max-size:10000}") long maxSize,
+                             @Value("${home.cache.ttl-seconds:600}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .executor(Runnable::run)
+                .removalListener((String nickname, Snapshot snapshot, RemovalCause cause) -> {
+                    if (snapshot != null) unindex(snapshot);
+                })
+                .build();
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .executor(Runnable::run)
+                .removalListener((Long userId, Long version, RemovalCause cause) -> {
+                    if (cause.wasEvicted() && version != null) evicted.accumulateAndGet(version, Math::max);
+                })
+                .build();
+    }
+
+    // 캐시된 메인화면 (없거나 다른 주의 응답이면 null)
+    public HomeResponseDto get(String nickname, int week) {
+        Snapshot snapshot = cache.getIfPresent(nickname);
+        return snapshot != null && snapshot.week == week ? snapshot.home : null;
+    }
+
+    // 조회 시작 시점 (put 할 때 전달)
+    public long stamp() {
+        return clock.get();
+    }
+
+    // 메인화면 저장 (stamp 이후 응답에 보이는 회원이 무효화되었으면 저장x)
+    public void put(String nickname, int week, Set<Long> userIds, HomeResponseDto home, long stamp) {
+        if (isChanged(userIds, stamp)) return;
+
+        Snapshot snapshot = new Snapshot(nickname, week, userIds, home);
+        for (Long userId : userIds) {
+            viewers.compute(userId, (id, snapshots) -> {
+                if (snapshots == null) snapshots = ConcurrentHashMap.newKeySet();
+                snapshots.add(snapshot);
+                return snapshots;
+            });
+        }
+        cache.put(nickname, snapshot);
+
+        //색인 후 저장 전에 무효화가 끼어들었으면 다시 제거
+        if (isChanged(userIds, stamp)) remove(snapshot);
+    }
+
+    // 회원들이 보이는 메인화면 무효화
+    public void invalidate(Collection<Long> userIds) {
+        if (userIds.isEmpty()) return;
+
+        long version = clock.incrementAndGet();
+        for (Long userId : userIds) {
+            versions.asMap().merge(userId, version, Math::max);
+        }
+        for (Long userId : userIds) {
+            Set<Snapshot> snapshots = viewers.remove(userId);
+            if (snapshots != null) snapshots.forEach(this::remove);
+        }
+    }
+
+    // 기록 끝 커밋 후 무효화 (회원 영역, 마지막 위치 변경)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRecordEnd(RecordEndEvent event) {
+        invalidate(List.of(event.getUserId()));
+    }
+
+    // 친구, 챌린지, 필터, 프로필 변경 커밋 후 무효화 (트랜잭션 밖에서 발생하면 바로 무효화)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onHomeChanged(HomeChangedEvent event) {
+        invalidate(event.getUserIds());
+    }
+
+    // stamp 이후 무효화된 회원이 있는지 (stamp 이후의 무효화 시점이 제거되었으면 알 수 없으므로 무효화된 것으로 판단)
+    private boolean isChanged(Set<Long> userIds, long stamp) {
+        if (evicted.get() > stamp) return true;
+        for (Long userId : userIds) {
+            Long version = versions.getIfPresent(userId);
+            if (version != null && version > stamp) return true;
+        }
+        return false;
+    }
+
+    // 캐시 항목 제거 (같은 닉네임의 더 최근 항목은 유지)
+    private void remove(Snapshot snapshot) {
+        cache.asMap().remove(snapshot.nickname, snapshot);
+        unindex(snapshot);
+    }
+
+    // 색인에서 캐시 항목 제거
+    private void unindex(Snapshot snapshot) {
+        for (Long userId : snapshot.userIds) {
+            viewers.computeIfPresent(userId, (id, snapshots) -> {
+                snapshots.remove(snapshot);
+                return snapshots.isEmpty() ? null : snapshots;
+            });
+        }
+    }
+
+    /*캐시 항목: 닉네임, 주 키, 응답에 보이는 회원 id(본인 포함), 응답 (같은 항목인지는 객체로 비교)*/
+    @AllArgsConstructor
+    private static class Snapshot {
+        private final String nickname;
+        private final int week;
+        private final Set<Long> userIds;
+        private final HomeResponseDto home;
+    }
+}
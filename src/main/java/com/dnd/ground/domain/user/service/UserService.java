@@ -3,9 +3,11 @@ package com.dnd.ground.domain.user.service;
 import com.dnd.ground.domain.exerciseRecord.dto.RecordRequestDto;
 import com.dnd.ground.domain.exerciseRecord.dto.RecordResponseDto;
 import com.dnd.ground.domain.friend.dto.FriendResponseDto;
+import com.dnd.ground.domain.matrix.dto.MatrixRequestDto;
 import com.dnd.ground.domain.user.dto.*;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * @description 회원 서비스 인터페이스
@@ -13,10 +15,19 @@ import org.springframework.web.multipart.MultipartFile;
  * @since   2022-08-01
  * @updated 1.회원 정보 수정 구현 완료
  *          - 2022-10-22 박찬호
+ *          2.메인화면 조회에 지도 화면 범위 추가
+ *          3.메인화면 변경분 조회 추가
+ *          4.메인화면 streaming 조회 추가
+ *          5.기록 시작 화면 조회 추가
+ *          - 2026-10-18
  */
 
 public interface UserService {
     HomeResponseDto showHome(String nickname);
+    HomeResponseDto showHome(String nickname, MatrixRequestDto.Viewport viewport);
+    HomeResponseDto showRecordHome(String nickname, MatrixRequestDto.Viewport viewport);
+    HomeDeltaResponseDto showHomeDelta(UserRequestDto.HomeDelta requestDto);
+    StreamingResponseBody showHomeStream(String nickname);
     UserResponseDto.MyPage getUserInfo(String nickname);
 
     FriendResponseDto.FriendProfile getUserProfile(String userNickname, String friendNickname);
@@ -2,6 +2,7 @@ package com.dnd.ground.domain.user.service;
 
 import com.dnd.ground.domain.challenge.Challenge;
 import com.dnd.ground.domain.challenge.ChallengeColor;
+import com.dnd.ground.domain.challenge.UserChallenge;
 import com.dnd.ground.domain.challenge.dto.ChallengeResponseDto;
 import com.dnd.ground.domain.challenge.repository.ChallengeRepository;
 import com.dnd.ground.domain.challenge.repository.UserChallengeRepository;
@@ -15,29 +16,51 @@ import com.dnd.ground.domain.friend.dto.FriendResponseDto;
 import com.dnd.ground.domain.friend.repository.FriendRepository;
 import com.dnd.ground.domain.friend.service.FriendService;
 import com.dnd.ground.domain.matrix.dto.MatrixDto;
+import com.dnd.ground.domain.matrix.dto.MatrixQueryDto;
+import com.dnd.ground.domain.matrix.dto.MatrixRequestDto;
 import com.dnd.ground.domain.matrix.matrixRepository.MatrixRepository;
+import com.dnd.ground.domain.matrix.matrixRepository.MatrixStreamRepository;
+import com.dnd.ground.domain.matrix.matrixRepository.UserWeekCellRepository;
+import com.dnd.ground.domain.matrix.matrixRepository.UserWeekSummaryRepository;
 import com.dnd.ground.domain.matrix.matrixService.MatrixService;
 import com.dnd.ground.domain.user.User;
 import com.dnd.ground.domain.user.dto.*;
+import com.dnd.ground.domain.user.event.HomeChangedEvent;
 import com.dnd.ground.domain.user.repository.UserRepository;
 import com.dnd.ground.global.exception.CNotFoundException;
 import com.dnd.ground.global.exception.CNotValidationException;
 import com.dnd.ground.global.exception.CommonErrorCode;
 import com.dnd.ground.global.util.AmazonS3Service;
+import com.dnd.ground.global.util.MatrixStreamWriter;
+import com.dnd.ground.global.util.SectionExecutor;
+import com.dnd.ground.global.util.SingleFlight;
+import com.dnd.ground.global.util.WeekUtil;
+import com.fasterxml.jackson.core.JsonGenerator;
 import lombok.*;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
 import java.util.stream.Collectors;
 
 import static java.time.temporal.TemporalAdjusters.firstDayOfMonth;
@@ -49,6 +72,40 @@ import static java.time.temporal.TemporalAdjusters.lastDayOfMonth;
  * @since   2022-08-01
  * @updated 1.회원 정보 수정 시 기본 이미지는 삭제안하도록 수정
  *          - 2022-10-29 박찬호
+ *          2.친구의 이번주 영역 수를 칸 키 count(distinct)로 조회
+ *          - 2026-10-18
+ *          3.메인화면 조회 시 친구 수와 상관없이 고정된 수의 쿼리로 조회
+ *          - 2026-10-18
+ *          4.메인화면 영역, 마이페이지 이번주 칸 수를 주간 집계에서 조회
+ *          - 2026-10-18
+ *          5.회원 프로필의 이번주 영역 수를 주간 집계에서 조회
+ *          - 2026-10-18
+ *          6.메인화면의 회원, 친구, 챌린지 영역을 섹션별로 동시에 조회
+ *          - 2026-10-18
+ *          7.메인화면 영역을 지도 화면 범위 내 칸만 조회 (범위가 없으면 전체)
+ *          - 2026-10-18
+ *          8.메인화면 변경분(version 이후 추가된 칸, 사라진 회원) 조회 추가
+ *          - 2026-10-18
+ *          9.메인화면 칸 리스트를 streaming으로 작성하는 조회 추가
+ *          - 2026-10-18
+ *          10.활동 기록, 운동 기록 정보의 칸 수를 기록에 저장된 칸 수로 조회
+ *          - 2026-10-18
+ *          11.마이페이지 걸음 수, 거리, 누적 칸 수를 기록 조회 없이 회원 id와 기간으로 조회
+ *          - 2026-10-18
+ *          12.메인화면(전체 영역)을 회원별로 캐시, 필터/프로필 변경 시 메인화면 변경 이벤트 발행
+ *          - 2026-10-18
+ *          13.메인화면 필터(나의 기록 보기, 친구 보기)와 친구의 공개 여부에 따라 숨겨진 영역은 조회하지 않음
+ *          - 2026-10-18
+ *          14.동시에 들어온 같은 메인화면 조회는 한 번만 조회(single-flight)
+ *          - 2026-10-18
+ *          15.메인화면 섹션 조회는 트랜잭션 밖에서 기다리고, timeout 된 섹션은 응답에 표시
+ *          - 2026-10-18
+ *          16.기록 시작 화면 조회 추가 (회원의 메인화면 필터와 상관없이 영역 조회)
+ *          - 2026-10-18
+ *          17.마이페이지, 회원 프로필의 주간 칸 수, 영역 수를 주간 집계 엔티티 대신 값만 조회
+ *          - 2026-10-18
+ *          18.회원 프로필 조회는 트랜잭션 없이 실행 (랭킹 조회가 트랜잭션을 연 채로 커넥션을 하나 더 빌리지 않도록)
+ *          - 2026-10-18
  */
 
 @Slf4j
@@ -65,76 +122,318 @@ public class UserServiceImpl implements UserService{
     private final FriendService friendService;
     private final FriendRepository friendRepository;
     private final MatrixRepository matrixRepository;
+    private final UserWeekCellRepository userWeekCellRepository;
+    private final UserWeekSummaryRepository userWeekSummaryRepository;
     private final MatrixService matrixService;
     private final AmazonS3Service amazonS3Service;
     private final AuthService authService;
-
+    private final SectionExecutor sectionExecutor;
+    private final MatrixStreamRepository matrixStreamRepository;
+    private final MatrixStreamWriter matrixStreamWriter;
+    private final HomeSnapshotCache homeSnapshotCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SingleFlight singleFlight;
+    private final TransactionTemplate transactionTemplate;
+
+    //메인화면 변경분 조회 시 version 보다 앞서 조회하는 시간
+    private static final Duration DELTA_SYNC_MARGIN = Duration.ofMinutes(1);
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public HomeResponseDto showHome(String nickname){
+        return showHome(nickname, new MatrixRequestDto.Viewport());
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public HomeResponseDto showHome(String nickname, MatrixRequestDto.Viewport viewport){
+        int week = WeekUtil.thisWeek();
+        boolean hasBounds = viewport.hasBounds();
+
+        //전체 영역 조회는 캐시에서 (캐시된 응답은 수정 금지)
+        if (!hasBounds) {
+            HomeResponseDto cached = homeSnapshotCache.get(nickname, week);
+            if (cached != null) return cached;
+        }
+
+        //같은 회원, 같은 화면 범위의 조회가 진행 중이면 그 결과를 함께 사용
+        return singleFlight.execute("home:" + nickname + ":" + viewport, () -> loadHome(nickname, viewport, week, hasBounds, true));
+    }
+
+    /*기록 시작 화면 조회: 메인화면 필터(나의 기록 보기, 친구 보기)는 메인화면에만 적용하므로 무시 (친구의 공개 여부는 적용, 캐시x)*/
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public HomeResponseDto showRecordHome(String nickname, MatrixRequestDto.Viewport viewport) {
+        int week = WeekUtil.thisWeek();
+        return singleFlight.execute("record:" + nickname + ":" + viewport, () -> loadHome(nickname, viewport, week, viewport.hasBounds(), false));
+    }
+
+    /*메인화면 조회 (필터를 적용한 전체 영역 응답은 캐시에 저장)*/
+    private HomeResponseDto loadHome(String nickname, MatrixRequestDto.Viewport viewport, int week, boolean hasBounds, boolean filtered) {
+        long stamp = homeSnapshotCache.stamp();
+
+        //화면 범위가 있거나 회원 영역이 timeout 되면 이번주 영역 수는 주간 집계에서 조회
+        HomeMembers members = findHomeMembers(nickname, filtered);
+        HomeSections sections = loadSections(members, users -> findWeekMatrices(toIds(users), week, viewport));
+        HomeResponseDto home = toHomeResponse(members, sections.matricesByUser,
+                hasBounds || sections.timedOutSections.contains(USER_SECTION));
+        home.setTimedOutSections(sections.timedOutSections);
+
+        //섹션 조회가 timeout 되지 않은 전체 영역 응답만 캐시
+        if (filtered && !hasBounds && sections.timedOutSections.isEmpty()) {
+            homeSnapshotCache.put(nickname, week, members.userIds(), home, stamp);
+        }
+        return home;
+    }
+
+    /*메인화면 변경분 조회: version(이전 응답 시간) 이후 추가된 칸, 사라진 회원(tombstone)*/
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public HomeDeltaResponseDto showHomeDelta(UserRequestDto.HomeDelta requestDto) {
+        //응답 version은 조회 전 시간 (조회 중 저장된 기록은 다음 변경분에 포함)
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime weekStart = WeekUtil.startOfWeek(now);
+        int week = WeekUtil.toWeek(now);
+
+        //version이 없거나 지난 주 version이면 전체 동기화
+        LocalDateTime since = requestDto.getVersion() == null ? null
+                : LocalDateTime.ofInstant(Instant.ofEpochMilli(requestDto.getVersion()), ZoneId.systemDefault());
+        boolean fullSync = since == null || since.isBefore(weekStart);
+
+        Set<String> knownNicknames = new HashSet<>();
+        if (!fullSync && requestDto.getNicknames() != null) knownNicknames.addAll(requestDto.getNicknames());
+
+        Function<List<User>, Map<Long, List<MatrixDto>>> cellLoader;
+        if (fullSync) {
+            cellLoader = users -> findWeekMatrices(toIds(users), week, new MatrixRequestDto.Viewport());
+        } else {
+            //커밋이 늦게 된 기록을 놓치지 않도록 version 보다 조금 앞선 시간부터 조회 (칸은 중복되어도 무관)
+            LocalDateTime from = since.minus(DELTA_SYNC_MARGIN);
+            cellLoader = users -> findChangedMatrices(users, knownNicknames, week, from, weekStart);
+        }
+        HomeMembers members = findHomeMembers(requestDto.getNickname(), true);
+        HomeSections sections = loadSections(members, cellLoader);
+        HomeResponseDto home = toHomeResponse(members, sections.matricesByUser, true);
+        home.setTimedOutSections(sections.timedOutSections);
+
+        //알고 있던 회원 중 더 이상 메인화면에 영역이 보이지 않는 회원 (친구 삭제, 챌린지 종료, 필터, 비공개 전환 등)
+        Set<String> currentNicknames = new HashSet<>();
+        for (User member : members.all()) {
+            if (members.showsCellsOf(member)) currentNicknames.add(member.getNickname());
+        }
+
+        List<String> removedNicknames = new ArrayList<>();
+        for (String known : knownNicknames) {
+            if (!currentNicknames.contains(known)) removedNicknames.add(known);
+        }
+
+        //timeout 된 섹션이 있으면 version을 그대로 반환 (다음 요청에서 같은 기간부터 다시 조회)
+        Long version = sections.timedOutSections.isEmpty()
+                ? now.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : requestDto.getVersion();
+
+        return HomeDeltaResponseDto.builder()
+                .version(version)
+                .fullSync(fullSync)
+                .removedNicknames(removedNicknames)
+                .home(home)
+                .build();
+    }
+
+    /*메인화면 조회: 칸 리스트는 메모리에 모으지 않고 응답에 바로 작성*/
+    public StreamingResponseBody showHomeStream(String nickname) {
         User user = userRepository.findByNickname(nickname).orElseThrow(
                 () -> new CNotFoundException(CommonErrorCode.NOT_FOUND_USER));
 
-        /*회원의 matrix 와 정보 (userMatrix)*/
-        UserResponseDto.UserMatrix userMatrix = new UserResponseDto.UserMatrix(user);
+        int week = WeekUtil.thisWeek();
+        HomeMembers members = findHomeMembers(user, true);
+        HomeResponseDto home = toHomeResponse(members, new HashMap<>(), true);
+
+        List<User> friends = members.friendsNotChallenge;
+        List<User> partners = new ArrayList<>(members.friendsWithChallenge.keySet());
+
+        return out -> {
+            try (JsonGenerator gen = matrixStreamWriter.createGenerator(out)) {
+                matrixStreamWriter.writeFieldsExcept(gen, home, "userMatrices", "friendMatrices", "challengeMatrices");
+
+                //숨겨진 회원의 영역은 조회하지 않고 빈 리스트로 작성
+                gen.writeFieldName("userMatrices");
+                matrixStreamWriter.writeWithMatrices(gen, home.getUserMatrices(), streamCells(members, user, week));
+
+                gen.writeArrayFieldStart("friendMatrices");
+                for (int i = 0; i < friends.size(); i++) {
+                    matrixStreamWriter.writeWithMatrices(gen, home.getFriendMatrices().get(i), streamCells(members, friends.get(i), week));
+                }
+                gen.writeEndArray();
+
+                gen.writeArrayFieldStart("challengeMatrices");
+                for (int i = 0; i < partners.size(); i++) {
+                    matrixStreamWriter.writeWithMatrices(gen, home.getChallengeMatrices().get(i), streamCells(members, partners.get(i), week));
+                }
+                gen.writeEndArray();
+
+                gen.writeEndObject();
+            }
+        };
+    }
+
+    /*회원의 주간 칸 streaming (메인화면에 영역이 보이지 않는 회원은 조회x)*/
+    private Consumer<LongConsumer> streamCells(HomeMembers members, User member, int week) {
+        if (!members.showsCellsOf(member)) return cellKeys -> {};
+        Long memberId = member.getId();
+        return cellKeys -> matrixStreamRepository.streamWeekCells(memberId, week, cellKeys);
+    }
+
+    /*메인화면에 보이는 회원들*/
+    @AllArgsConstructor
+    private static class HomeMembers {
+        private final User user;
+        private final Map<Long, ChallengeColor> myColors;                //챌린지 별 회원 기준 색깔
+        private final Map<User, List<Long>> friendsWithChallenge;       //챌린지를 함께 하는 사람 -> 챌린지 id 목록
+        private final List<User> friendsNotChallenge;                   //챌린지를 함께하지 않는 친구 목록
+        private final boolean filtered;                                 //회원의 메인화면 필터 적용 여부
+
+        //메인화면에 보이는 회원(본인 포함)
+        private List<User> all() {
+            List<User> all = new ArrayList<>();
+            all.add(user);
+            all.addAll(friendsWithChallenge.keySet());
+            all.addAll(friendsNotChallenge);
+            return all;
+        }
+
+        //메인화면에 보이는 회원 id(본인 포함)
+        private Set<Long> userIds() {
+            Set<Long> userIds = new HashSet<>();
+            all().forEach(member -> userIds.add(member.getId()));
+            return userIds;
+        }
+
+        //메인화면에 영역을 보여줄 회원인지 (본인: 나의 기록 보기, 다른 회원: 친구 보기 + 친구들에게 보이기)
+        //필터를 적용하지 않으면 친구들에게 보이기만 확인
+        private boolean showsCellsOf(User member) {
+            if (member == user) return !filtered || Boolean.TRUE.equals(user.getIsShowMine());
+            return (!filtered || Boolean.TRUE.equals(user.getIsShowFriend())) && Boolean.TRUE.equals(member.getIsPublicRecord());
+        }
+
+        //영역을 보여줄 회원만
+        private List<User> showingCells(Collection<User> members) {
+            List<User> showing = new ArrayList<>();
+            for (User member : members) {
+                if (showsCellsOf(member)) showing.add(member);
+            }
+            return showing;
+        }
+    }
 
-        List<ExerciseRecord> userRecordOfThisWeek = exerciseRecordRepository.findRecordOfThisWeek(user.getId()); // 이번주 운동기록 조회
-        List<MatrixDto> userMatrixSet = matrixRepository.findMatrixSetByRecords(userRecordOfThisWeek);  // 운동 기록의 영역 조회
+    /*섹션별 조회 결과 (timeout 된 섹션은 빈 영역, timedOutSections에 응답 필드 이름 추가)*/
+    @AllArgsConstructor
+    private static class HomeSections {
+        private final Map<Long, List<MatrixDto>> matricesByUser;
+        private final List<String> timedOutSections;
+    }
 
-        //회원 정보 저장
-        userMatrix.setProperties(user.getNickname(), userMatrixSet.size(), userMatrixSet, user.getLatitude(), user.getLongitude(), user.getPicturePath());
+    //메인화면 섹션 (응답 필드 이름)
+    private static final String USER_SECTION = "userMatrices";
+    private static final String FRIEND_SECTION = "friendMatrices";
+    private static final String CHALLENGE_SECTION = "challengeMatrices";
 
+    /*메인화면에 보이는 회원들 조회: 섹션 조회를 기다리는 동안 커넥션을 잡지 않도록 조회가 끝나면 트랜잭션 종료
+      (회원 엔티티는 fetch join으로 모두 조회되어 트랜잭션 밖에서 사용 가능)*/
+    private HomeMembers findHomeMembers(String nickname, boolean filtered) {
+        return transactionTemplate.execute(status -> {
+            User user = userRepository.findByNickname(nickname).orElseThrow(
+                    () -> new CNotFoundException(CommonErrorCode.NOT_FOUND_USER));
+            return findHomeMembers(user, filtered);
+        });
+    }
+
+    /*메인화면에 보이는 회원들 조회*/
+    private HomeMembers findHomeMembers(User user, boolean filtered) {
         /*----------*/
-        //진행 중인 챌린지 목록 조회 List<UserChallenge>
-        List<Challenge> challenges = challengeRepository.findProgressChallenge(user);
+        //진행 중인 챌린지들의 UC 조회(본인 포함)
+        List<UserChallenge> progressUCs = userChallengeRepository.findProgressUCsWithMembers(user);
+
+        //챌린지 별 회원 기준 색깔
+        Map<Long, ChallengeColor> myColors = new HashMap<>();
+        for (UserChallenge uc : progressUCs) {
+            if (uc.getUser() == user) myColors.put(uc.getChallenge().getId(), uc.getColor());
+        }
+
+        //나랑 챌린지를 함께 하는 사람들(친구+친구X 둘 다)과 함께하는 챌린지 id 목록(id 오름차순)
+        Map<User, List<Long>> friendsWithChallenge = new LinkedHashMap<>();
+        for (UserChallenge uc : progressUCs) {
+            if (uc.getUser() == user) continue;
+            friendsWithChallenge.computeIfAbsent(uc.getUser(), u -> new ArrayList<>()).add(uc.getChallenge().getId());
+        }
 
         //챌린지를 함께하지 않는 친구 목록
         List<User> friendsNotChallenge = friendService.getFriends(user);
+        friendsNotChallenge.removeAll(friendsWithChallenge.keySet());
+        /*----------*/
 
-        //나랑 챌린지를 함께 하는 사람들(친구+친구X 둘 다)
-        Set<User> friendsWithChallenge = new HashSet<>();
+        return new HomeMembers(user, myColors, friendsWithChallenge, friendsNotChallenge, filtered);
+    }
 
-        for (Challenge challenge : challenges) {
-            List<User> challengeUsers = userChallengeRepository.findChallengeUsers(challenge);
-            //챌린지를 함께하고 있는 사람들 조회
-            for (User cu : challengeUsers) {
-                friendsWithChallenge.add(cu);
-                friendsNotChallenge.remove(cu);
-            }
+    /*회원, 친구, 챌린지 회원들의 이번주 영역을 섹션별로 동시에 조회 (timeout 시 빈 영역)*/
+    private HomeSections loadSections(HomeMembers members, Function<List<User>, Map<Long, List<MatrixDto>>> cellLoader) {
+        Map<Long, List<MatrixDto>> timedOut = new HashMap<>(); //timeout 시 fallback (섹션 결과와 구분)
+
+        //필터, 공개 여부로 숨겨진 회원은 조회 대상에서 제외 (비어 있는 섹션은 조회x)
+        Map<String, CompletableFuture<Map<Long, List<MatrixDto>>>> sections = new LinkedHashMap<>();
+        sections.put(USER_SECTION, supplySection(USER_SECTION, members.showingCells(List.of(members.user)), cellLoader, timedOut));
+        sections.put(FRIEND_SECTION, supplySection(FRIEND_SECTION, members.showingCells(members.friendsNotChallenge), cellLoader, timedOut));
+        sections.put(CHALLENGE_SECTION, supplySection(CHALLENGE_SECTION, members.showingCells(members.friendsWithChallenge.keySet()), cellLoader, timedOut));
+
+        Map<Long, List<MatrixDto>> matricesByUser = new HashMap<>();
+        List<String> timedOutSections = new ArrayList<>();
+        for (Map.Entry<String, CompletableFuture<Map<Long, List<MatrixDto>>>> section : sections.entrySet()) {
+            Map<Long, List<MatrixDto>> result = SectionExecutor.await(section.getValue());
+            if (result == timedOut) timedOutSections.add(section.getKey());
+            matricesByUser.putAll(result);
         }
-        friendsWithChallenge.remove(user);
-        /*----------*/
+        return new HomeSections(matricesByUser, timedOutSections);
+    }
 
-        /*챌린지를 안하는 친구들의 matrix 와 정보 (friendMatrices)*/
-        Map<String, List<MatrixDto>> friendHashMap= new HashMap<>();
-        List<UserResponseDto.FriendMatrix> friendMatrices = new ArrayList<>();
+    private CompletableFuture<Map<Long, List<MatrixDto>>> supplySection(String section, List<User> users,
+                                                                       Function<List<User>, Map<Long, List<MatrixDto>>> cellLoader,
+                                                                       Map<Long, List<MatrixDto>> fallback) {
+        if (users.isEmpty()) return CompletableFuture.completedFuture(new HashMap<>());
+        return sectionExecutor.supply(section, () -> cellLoader.apply(users), fallback);
+    }
 
-        friendsNotChallenge.forEach(nf -> friendHashMap.put(nf.getNickname(),
-                matrixRepository.findMatrixSetByRecords(exerciseRecordRepository.findRecordOfThisWeek(nf.getId()))));  // 이번주 운동기록 조회하여 영역 대입
+    /*메인화면 응답 구성 (friendMatrices, challengeMatrices 순서 = 회원 목록 순서)*/
+    private HomeResponseDto toHomeResponse(HomeMembers members, Map<Long, List<MatrixDto>> matricesByUser, boolean countFromSummary) {
+        User user = members.user;
+        Map<Long, ChallengeColor> myColors = members.myColors;
 
-        for (String friendNickname : friendHashMap.keySet()) {
-            User friend = userRepository.findByNickname(friendNickname).orElseThrow(
-                    () -> new CNotFoundException(CommonErrorCode.NOT_FOUND_USER));
+        /*회원의 matrix 와 정보 (userMatrix)*/
+        UserResponseDto.UserMatrix userMatrix = new UserResponseDto.UserMatrix(user);
+        List<MatrixDto> userMatrixSet = matricesByUser.getOrDefault(user.getId(), new ArrayList<>());
+        //화면 범위가 있거나 나의 기록을 숨긴 경우 영역 수는 주간 집계에서 조회
+        long userMatricesNumber = countFromSummary || !members.showsCellsOf(user)
+                ? userWeekSummaryRepository.findAreaCount(user.getId(), WeekUtil.thisWeek()).orElse(0L)
+                : userMatrixSet.size();
+        userMatrix.setProperties(user.getNickname(), userMatricesNumber, userMatrixSet, user.getLatitude(), user.getLongitude(), user.getPicturePath());
 
-            friendMatrices.add(new UserResponseDto.FriendMatrix(friendNickname, friend.getLatitude(), friend.getLongitude(),
-                    friendHashMap.get(friendNickname), friend.getPicturePath()));
+        /*챌린지를 안하는 친구들의 matrix 와 정보 (friendMatrices)*/
+        List<UserResponseDto.FriendMatrix> friendMatrices = new ArrayList<>();
+
+        for (User friend : members.friendsNotChallenge) {
+            friendMatrices.add(new UserResponseDto.FriendMatrix(friend.getNickname(), friend.getLatitude(), friend.getLongitude(),
+                    matricesByUser.getOrDefault(friend.getId(), new ArrayList<>()), friend.getPicturePath()));
         }
 
         /*챌린지를 하는 사람들의 matrix 와 정보 (challengeMatrices)*/
         List<UserResponseDto.ChallengeMatrix> challengeMatrices = new ArrayList<>();
 
-        for (User friend : friendsWithChallenge) {
-            Integer challengeNumber = challengeRepository.findCountChallenge(user, friend); // 함께하는 챌린지 수
+        for (Map.Entry<User, List<Long>> entry : members.friendsWithChallenge.entrySet()) {
+            User friend = entry.getKey();
+            List<Long> challengeIds = entry.getValue();
 
-            //색깔 처리
-            Challenge challengeWithFriend = challengeRepository.findChallengesWithFriend(user, friend).get(0);//함께하는 첫번째 챌린지 조회
-            ChallengeColor challengeColor = userChallengeRepository.findChallengeColor(user, challengeWithFriend);//회원 기준 해당 챌린지 색깔
-
-            List<ExerciseRecord> challengeRecordOfThisWeek = exerciseRecordRepository.findRecordOfThisWeek(friend.getId()); // 이번주 운동기록 조회
-            List<MatrixDto> challengeMatrixSetDto = matrixRepository.findMatrixSetByRecords(challengeRecordOfThisWeek); // 운동 기록의 영역 조회
+            //색깔 처리: 함께하는 첫번째 챌린지의 회원 기준 색깔
+            ChallengeColor challengeColor = myColors.get(challengeIds.get(0));
 
             challengeMatrices.add(
                     new UserResponseDto.ChallengeMatrix(
-                            friend.getNickname(), challengeNumber, challengeColor,
-                            friend.getLatitude(), friend.getLongitude(), challengeMatrixSetDto,
+                            friend.getNickname(), challengeIds.size(), challengeColor,
+                            friend.getLatitude(), friend.getLongitude(),
+                            matricesByUser.getOrDefault(friend.getId(), new ArrayList<>()),
                             friend.getPicturePath())
             );
         }
@@ -143,37 +442,75 @@ public class UserServiceImpl implements UserService{
                 .userMatrices(userMatrix)
                 .friendMatrices(friendMatrices)
                 .challengeMatrices(challengeMatrices)
-                .challengesNumber(challengeRepository.findCountChallenge(user))
+                .challengesNumber(myColors.size())
                 .isShowMine(user.getIsShowMine())
                 .isShowFriend(user.getIsShowFriend())
                 .isPublicRecord(user.getIsPublicRecord())
                 .build();
     }
 
+    /*회원들의 주간 영역 변경분 조회 (회원 id -> 영역): 알고 있던 회원은 from 이후 저장된 칸, 새로운 회원은 전체 칸*/
+    private Map<Long, List<MatrixDto>> findChangedMatrices(List<User> users, Set<String> knownNicknames, int week,
+                                                           LocalDateTime from, LocalDateTime weekStart) {
+        List<Long> knownIds = new ArrayList<>();
+        List<Long> newIds = new ArrayList<>();
+        for (User u : users) {
+            if (knownNicknames.contains(u.getNickname())) knownIds.add(u.getId());
+            else newIds.add(u.getId());
+        }
+
+        Map<Long, List<MatrixDto>> matricesByUser = findWeekMatrices(newIds, week, new MatrixRequestDto.Viewport());
+        if (knownIds.isEmpty()) return matricesByUser;
+
+        for (MatrixQueryDto.UserCell cell : matrixRepository.findUserCellsCreatedAfter(knownIds, from, weekStart, weekStart.plusWeeks(1))) {
+            matricesByUser.computeIfAbsent(cell.getUserId(), id -> new ArrayList<>()).add(new MatrixDto(cell.getCellKey()));
+        }
+        return matricesByUser;
+    }
+
+    private List<Long> toIds(List<User> users) {
+        return users.stream().map(User::getId).collect(Collectors.toList());
+    }
+
+    /*회원들의 주간 영역 조회 (회원 id -> 영역), 화면 범위가 있으면 범위 내 칸만 조회*/
+    private Map<Long, List<MatrixDto>> findWeekMatrices(Collection<Long> userIds, int week, MatrixRequestDto.Viewport viewport) {
+        Map<Long, List<MatrixDto>> matricesByUser = new HashMap<>();
+        if (userIds.isEmpty()) return matricesByUser;
+
+        List<MatrixQueryDto.UserCell> cells = viewport.hasBounds()
+                ? userWeekCellRepository.findUserCellsInViewport(userIds, week,
+                        viewport.minCellKey(), viewport.maxCellKey(), 1L << 32, viewport.minLonIndex(), viewport.maxLonIndex())
+                : userWeekCellRepository.findUserCells(userIds, week);
+
+        for (MatrixQueryDto.UserCell cell : cells) {
+            matricesByUser.computeIfAbsent(cell.getUserId(), id -> new ArrayList<>()).add(new MatrixDto(cell.getCellKey()));
+        }
+        return matricesByUser;
+    }
+
     /*회원 정보 조회(마이페이지)*/
     public UserResponseDto.MyPage getUserInfo(String nickname) {
         User user = userRepository.findByNickname(nickname).orElseThrow(
                 () -> new CNotFoundException(CommonErrorCode.NOT_FOUND_USER));
 
-        // 이번주 운동기록
-        List<ExerciseRecord> recordOfThisWeek = exerciseRecordRepository.findRecordOfThisWeek(user.getId());
+        // 이번주 기간 (월요일 00시 ~ 지금)
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime startOfWeek = WeekUtil.startOfWeek(now);
 
         // 이번주 채운 칸의 수
-        Long matrixNumber = (long) matrixRepository.findMatrixByRecords(recordOfThisWeek).size();
+        Long matrixNumber = userWeekSummaryRepository.findMatrixCount(user.getId(), WeekUtil.thisWeek()).orElse(0L);
 
         // 이번주 걸음수
-        Integer stepCount = exerciseRecordRepository.findUserStepCount(user, recordOfThisWeek).orElse(0);
+        Integer stepCount = exerciseRecordRepository.findUserStepCount(user.getId(), startOfWeek, now).orElse(0);
 
         // 이번주 거리합
-        Integer distance = exerciseRecordRepository.findUserDistance(user, recordOfThisWeek).orElse(0);
+        Integer distance = exerciseRecordRepository.findUserDistance(user.getId(), startOfWeek, now).orElse(0);
 
         // 친구 수
         Integer friendNumber = friendService.getFriends(user).size();
 
-        // 역대 누적 운동기록(가입날짜 ~ 지금)
-        List<ExerciseRecord> record = exerciseRecordRepository.findRecord(user.getId(), user.getCreated(), LocalDateTime.now());
-        // 역대 누적 칸수
-        Long allMatrixNumber = (long) matrixRepository.findMatrixByRecords(record).size();
+        // 역대 누적 칸수(가입날짜 ~ 지금)
+        Long allMatrixNumber = matrixRepository.countMatrixBetween(user.getId(), user.getCreated(), now);
 
         return UserResponseDto.MyPage.builder()
                 .nickname(user.getNickname())
@@ -187,7 +524,8 @@ public class UserServiceImpl implements UserService{
                 .build();
     }
 
-    /*회원 프로필 조회*/
+    /*회원 프로필 조회: 누적 칸 수 랭킹(single-flight)이 자기 트랜잭션을 여므로 바깥 트랜잭션 없이 실행*/
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public FriendResponseDto.FriendProfile getUserProfile(String userNickname, String friendNickname) {
         User user = userRepository.findByNickname(userNickname).orElseThrow(
                 () -> new CNotFoundException(CommonErrorCode.NOT_FOUND_USER));
@@ -221,8 +559,7 @@ public class UserServiceImpl implements UserService{
         }
 
         //이번주 영역 정보
-        areas = (long) matrixRepository.findMatrixSetByRecords(
-                exerciseRecordRepository.findRecordOfThisWeek(friend.getId())).size();
+        areas = userWeekSummaryRepository.findAreaCount(friend.getId(), WeekUtil.thisWeek()).orElse(0L);
 
         //함께 진행하는 챌린지 정보
         List<ChallengeResponseDto.Progress> challenges = challengeService.findProgressChallenge(userNickname, friendNickname);
@@ -273,7 +610,7 @@ public class UserServiceImpl implements UserService{
             activityRecords.add(RecordResponseDto.activityRecord
                     .builder()
                     .recordId(exerciseRecord.getId())
-                    .matrixNumber((long) exerciseRecord.getMatrices().size())
+                    .matrixNumber(exerciseRecord.countMatrices())
                     .stepCount(exerciseRecord.getStepCount())
                     .distance(exerciseRecord.getDistance())
                     .exerciseTime(time)
@@ -319,7 +656,7 @@ public class UserServiceImpl implements UserService{
                 .date(date)
                 .started(started)
                 .ended(ended)
-                .matrixNumber((long) exerciseRecord.getMatrices().size())
+                .matrixNumber(exerciseRecord.countMatrices())
                 .distance(exerciseRecord.getDistance())
                 .exerciseTime(time)
                 .stepCount(exerciseRecord.getStepCount())
@@ -347,25 +684,31 @@ public class UserServiceImpl implements UserService{
     /*필터 변경: 나의 기록 보기*/
     @Transactional
     public Boolean changeFilterMine(String nickname) {
-        return userRepository.findByNickname(nickname)
-                .orElseThrow(() -> new CNotFoundException(CommonErrorCode.NOT_FOUND_USER))
-                .changeFilterMine();
+        User user = userRepository.findByNickname(nickname)
+                .orElseThrow(() -> new CNotFoundException(CommonErrorCode.NOT_FOUND_USER));
+        Boolean filter = user.changeFilterMine();
+        eventPublisher.publishEvent(new HomeChangedEvent(user.getId()));
+        return filter;
     }
 
     /*필터 변경: 친구 보기*/
     @Transactional
     public Boolean changeFilterFriend(String nickname) {
-        return userRepository.findByNickname(nickname)
-                .orElseThrow(() -> new CNotFoundException(CommonErrorCode.NOT_FOUND_USER))
-                .changeFilterFriend();
+        User user = userRepository.findByNickname(nickname)
+                .orElseThrow(() -> new CNotFoundException(CommonErrorCode.NOT_FOUND_USER));
+        Boolean filter = user.changeFilterFriend();
+        eventPublisher.publishEvent(new HomeChangedEvent(user.getId()));
+        return filter;
     }
 
     /*필터 변경: 친구들에게 보이기*/
     @Transactional
     public Boolean changeFilterRecord(String nickname) {
-        return userRepository.findByNickname(nickname)
-                .orElseThrow(() -> new CNotFoundException(CommonErrorCode.NOT_FOUND_USER))
-                .changeFilterRecord();
+        User user = userRepository.findByNickname(nickname)
+                .orElseThrow(() -> new CNotFoundException(CommonErrorCode.NOT_FOUND_USER));
+        Boolean filter = user.changeFilterRecord();
+        eventPublisher.publishEvent(new HomeChangedEvent(user.getId()));
+        return filter;
     }
 
     /* 운동 기록의 상세 메시지 수정 */
@@ -415,6 +758,9 @@ public class UserServiceImpl implements UserService{
         }
         user.updateProfile(editNick, intro, pictureName, picturePath);
 
+        //닉네임, 프로필 사진이 보이는 메인화면 무효화
+        eventPublisher.publishEvent(new HomeChangedEvent(user.getId()));
+
         return authService.issuanceTokenByNickname(user.getNickname());
     }
 
@@ -0,0 +1,73 @@
+package com.dnd.ground.global.batch;
+
+import com.dnd.ground.domain.challenge.service.ChallengeScoreService;
+import com.dnd.ground.domain.challenge.service.ChallengeService;
+import com.dnd.ground.domain.exerciseRecord.Repository.ExerciseRecordRepository;
+import com.dnd.ground.domain.matrix.matrixRepository.MatrixRepository;
+import com.dnd.ground.domain.matrix.matrixRepository.UserWeekCellRepository;
+import com.dnd.ground.domain.matrix.matrixRepository.UserWeekSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * @description 스키마 변경 후 기존 데이터를 채우는 backfill 작업
+ *              1. 기존 칸(matrix)의 칸 키 채우기
+ *              2. matrix_seq를 기존 칸 id 이후로 맞추기
+ *              3. 기존 칸으로 주간 영역 집계(user_week_cell, user_week_summary) 채우기
+ *              4. (삭제) 주간 칸 집합 비트맵 채우기
+ *              5. 기존 운동 기록의 저장 시간(created) 채우기
+ *              6. 기록 내 중복 칸 삭제 (주간 집계 전에 실행)
+ *              7. 기존 운동 기록의 칸 수, 칸 범위 채우기
+ *              8. 최종 결과 저장 전에 완료된 챌린지의 최종 결과(점수, 순위) 채우기
+ *              9. 진행 중인 챌린지의 회원별 점수 다시 계산
+ * @since   2026-10-18
+ * @updated 1. 칸 키 backfill 추가
+ *          2. matrix_seq backfill 추가
+ *          3. 주간 영역 집계 backfill 추가
+ *          4. 주간 칸 집합 비트맵 backfill 추가
+ *          5. 운동 기록 저장 시간 backfill 추가
+ *          6. 기록 내 중복 칸 삭제 추가
+ *          7. 운동 기록 칸 수, 칸 범위 backfill 추가
+ *          8. 완료된 챌린지 최종 결과 backfill 추가
+ *          9. 진행 중인 챌린지 점수 backfill 추가
+ *          10. 주간 칸 집합 비트맵 backfill 삭제 (비트맵 컬럼 삭제)
+ *          - 2026-10-18
+ * @note 1. backfill.enabled=true 일 때만 서버 시작 시 1회 실행
+ *       2. 모든 작업은 여러 번 실행해도 결과가 같도록(idempotent) 작성
+ */
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "backfill.enabled", havingValue = "true")
+public class BackfillRunner implements ApplicationRunner {
+
+    private final MatrixRepository matrixRepository;
+    private final UserWeekCellRepository userWeekCellRepository;
+    private final UserWeekSummaryRepository userWeekSummaryRepository;
+    private final ExerciseRecordRepository exerciseRecordRepository;
+    private final ChallengeService challengeService;
+    private final ChallengeScoreService challengeScoreService;
+
+    @Override
+    @Transactional
+    public void run(ApplicationArguments args) {
+        int countCellKey = matrixRepository.backfillCellKey();
+        int countSequence = matrixRepository.backfillMatrixSequence();
+        int countDuplicate = matrixRepository.deleteDuplicateCells();
+        int countWeekCell = userWeekCellRepository.backfillUserWeekCell();
+        int countWeekSummary = userWeekSummaryRepository.backfillUserWeekSummary();
+        int countCreated = exerciseRecordRepository.backfillCreated();
+        int countMatrixSummary = exerciseRecordRepository.backfillMatrixSummary();
+        int countChallengeResult = challengeService.backfillChallengeResults();
+        int countChallengeScore = challengeScoreService.rebuildScores();
+
+        log.info("**backfill 실행** 칸 키를 채운 칸의 수:{} | matrix_seq 조정 여부:{} | 삭제한 중복 칸 수:{} | 주간 칸 추가 수:{} | 주간 집계 갱신 수:{} | 저장 시간을 채운 기록 수:{} | 칸 수를 채운 기록 수:{} | 결과를 채운 챌린지 수:{} | 점수를 다시 계산한 챌린지 수:{}",
+                countCellKey, countSequence, countDuplicate, countWeekCell, countWeekSummary, countCreated, countMatrixSummary, countChallengeResult, countChallengeScore);
+    }
+}
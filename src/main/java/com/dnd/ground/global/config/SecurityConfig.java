@@ -8,6 +8,7 @@ import com.dnd.ground.global.securityFilter.JWTCheckFilter;
 import com.dnd.ground.global.securityFilter.JWTLoginFilter;
 import com.dnd.ground.global.securityFilter.JWTSignFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -29,6 +30,8 @@ import org.springframework.security.web.authentication.www.BasicAuthenticationFi
  * @since   2022-08-24
  * @updated 1. 토큰 재발급 시 필터 제외하도록 수정
  *          - 2022-10-29 박찬호
+ *          2. 토큰 검사 필터의 stateless 모드 설정(jwt.stateless) 추가
+ *          - 2026-10-18
  */
 
 @Configuration
@@ -41,6 +44,9 @@ public class SecurityConfig {
     private final UserRepository userRepository;
     private final KakaoService kakaoService;
 
+    @Value("${jwt.stateless:true}")
+    private boolean stateless;
+
     @Bean
     public AuthenticationManager authenticationManager(AuthenticationConfiguration authenticationConfiguration) throws Exception {
         return authenticationConfiguration.getAuthenticationManager();
@@ -58,7 +64,7 @@ public class SecurityConfig {
         // 회원가입 or 재로그인 인증 필터
         JWTSignFilter signFilter = new JWTSignFilter(authenticationManager(authenticationConfiguration), authService, userRepository);
         // 매 request마다 토큰을 검사 해주는 필터
-        JWTCheckFilter checkFilter = new JWTCheckFilter(authenticationManager(authenticationConfiguration), authService, userRepository);
+        JWTCheckFilter checkFilter = new JWTCheckFilter(authenticationManager(authenticationConfiguration), authService, userRepository, stateless);
         // 로그인 필터
         JWTLoginFilter loginFIlter = new JWTLoginFilter(authenticationManager(authenticationConfiguration), kakaoService, userRepository);
 
@@ -1,22 +1,59 @@
 package com.dnd.ground.global.config;
 
+import com.dnd.ground.global.util.CompactMatrixModule;
+import com.dnd.ground.global.util.MatrixCodec;
+import com.dnd.ground.global.util.MatrixRectUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 /**
  * @description Web 관련 설정 파일
  * @author  박찬호
  * @since   2022-07-21
  * @updated 2022-07-21 / CORS 설정 추가
+ *          2026-10-18 / 칸 리스트 압축 형식 응답(Accept: application/vnd.ground.compact+json) 추가
+ *          2026-10-18 / 칸 리스트 직사각형 병합 형식 응답(Accept: application/vnd.ground.rects+json) 추가
+ *          2026-10-18 / 기본 JSON 컨버터는 application/json만 처리 (압축 형식 요청을 가로채지 않도록)
  */
 
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
+
+    private final ObjectMapper objectMapper;
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**")
                 .allowedOrigins("*")
                 .allowedMethods("GET", "POST", "PUT", "DELETE");
     }
+
+    // 압축 형식은 Accept 헤더로 명시한 경우에만 사용 (기본 JSON 컨버터보다 뒤에 등록)
+    // 기본 JSON 컨버터는 application/*+json도 처리하므로 application/json으로 제한
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        for (HttpMessageConverter<?> converter : converters) {
+            if (converter instanceof MappingJackson2HttpMessageConverter) {
+                ((MappingJackson2HttpMessageConverter) converter).setSupportedMediaTypes(List.of(MediaType.APPLICATION_JSON));
+            }
+        }
+        converters.add(matrixConverter(CompactMatrixModule.Format.VARINT, MatrixCodec.COMPACT_MEDIA_TYPE));
+        converters.add(matrixConverter(CompactMatrixModule.Format.RECTANGLE, MatrixRectUtil.RECTANGLE_MEDIA_TYPE));
+    }
+
+    private MappingJackson2HttpMessageConverter matrixConverter(CompactMatrixModule.Format format, String mediaType) {
+        MappingJackson2HttpMessageConverter converter =
+                new MappingJackson2HttpMessageConverter(objectMapper.copy().registerModule(new CompactMatrixModule(format)));
+        converter.setSupportedMediaTypes(List.of(MediaType.parseMediaType(mediaType)));
+        return converter;
+    }
 }
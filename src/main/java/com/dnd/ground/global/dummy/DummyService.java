@@ -2,6 +2,8 @@ package com.dnd.ground.global.dummy;
 
 import com.dnd.ground.domain.challenge.UserChallenge;
 import com.dnd.ground.domain.challenge.repository.ChallengeRepository;
+import com.dnd.ground.domain.challenge.repository.ChallengeResultRepository;
+import com.dnd.ground.domain.challenge.repository.ChallengeScoreRepository;
 import com.dnd.ground.domain.challenge.repository.UserChallengeRepository;
 import com.dnd.ground.domain.exerciseRecord.ExerciseRecord;
 import com.dnd.ground.domain.exerciseRecord.Repository.ExerciseRecordRepository;
@@ -9,6 +11,8 @@ import com.dnd.ground.domain.friend.Friend;
 import com.dnd.ground.domain.friend.repository.FriendRepository;
 import com.dnd.ground.domain.matrix.Matrix;
 import com.dnd.ground.domain.matrix.matrixRepository.MatrixRepository;
+import com.dnd.ground.domain.matrix.matrixRepository.UserWeekCellRepository;
+import com.dnd.ground.domain.matrix.matrixRepository.UserWeekSummaryRepository;
 import com.dnd.ground.domain.user.User;
 import com.dnd.ground.domain.user.repository.UserRepository;
 import com.dnd.ground.global.exception.CNotFoundException;
@@ -30,6 +34,10 @@ import java.util.List;
  * @since   2022-10-04
  * @updated 1. 회원, 운동 기록, 영역과 관련된 로직 생성
  *          - 2022.10.04 박찬호
+ *          2. 회원 삭제 시 챌린지 최종 결과 삭제
+ *          3. 회원 삭제 시 챌린지 점수 삭제
+ *          4. 회원 삭제 시 주간 영역 집계 삭제
+ *          - 2026.10.18
  */
 
 @RequiredArgsConstructor
@@ -41,6 +49,10 @@ public class DummyService {
     private final FriendRepository friendRepository;
     private final UserChallengeRepository userChallengeRepository;
     private final ChallengeRepository challengeRepository;
+    private final ChallengeResultRepository challengeResultRepository;
+    private final ChallengeScoreRepository challengeScoreRepository;
+    private final UserWeekCellRepository userWeekCellRepository;
+    private final UserWeekSummaryRepository userWeekSummaryRepository;
 
     /*더미 유저 조회*/
     public ResponseEntity<?> getDummyUser(String nickname) {
@@ -116,6 +128,12 @@ public class DummyService {
         );
 
 
+        //챌린지 최종 결과, 점수, 주간 영역 집계 삭제 (일괄 삭제 쿼리가 영속성 컨텍스트를 비우므로 가장 먼저 실행)
+        challengeResultRepository.deleteByUser(user);
+        challengeScoreRepository.deleteByUserId(user.getId());
+        userWeekCellRepository.deleteByUserId(user.getId());
+        userWeekSummaryRepository.deleteByUserId(user.getId());
+
         //회원의 운동 기록 삭제
         List<ExerciseRecord> records = exerciseRecordRepository.findRecordsByUser(user);
 
@@ -185,6 +203,7 @@ public class DummyService {
                 .exerciseTime(request.getExerciseTime())
                 .stepCount(request.getStepCount())
                 .message(request.getMessage())
+                .created(LocalDateTime.now())
                 .matrices(new ArrayList<>())
                 .build();
 
@@ -10,6 +10,9 @@ import org.springframework.http.HttpStatus;
  * @since   2022-08-24
  * @updated 1. 에러 코드 추가 (NOT_FOUND_FRIEND_REQUEST)
  *          -2022.10.10 박찬호
+ *          2. 에러 코드 추가 (NOT_VALID_VIEWPORT, NOT_VALID_MATRIX)
+ *          3. 에러 코드 추가 (EMPTY_MATRIX)
+ *          -2026.10.18
  */
 
 @RequiredArgsConstructor
@@ -36,6 +39,10 @@ public enum CommonErrorCode implements ErrorCode {
 
     DUPLICATE_NICKNAME(HttpStatus.BAD_REQUEST, "중복된 닉네임입니다."),
 
+    NOT_VALID_VIEWPORT(HttpStatus.BAD_REQUEST, "지도 범위가 올바르지 않습니다."),
+    NOT_VALID_MATRIX(HttpStatus.BAD_REQUEST, "칸의 위도, 경도가 올바르지 않습니다."),
+    EMPTY_MATRIX(HttpStatus.BAD_REQUEST, "기록에 칸이 없습니다."),
+
     //5XX
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 동작 중 예외가 발생했습니다."),
     SQL_INTEGRITY_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "SQL 처리 중 무결성 문제가 발생했습니다."),
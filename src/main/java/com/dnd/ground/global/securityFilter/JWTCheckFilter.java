@@ -11,6 +11,8 @@ import com.dnd.ground.global.util.JwtVerifyResult;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
@@ -21,6 +23,7 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -29,22 +32,30 @@ import java.util.Objects;
  * @since   2022-08-02
  * @updated 1. 전체 적인 로직 수정
  *          - 2022.08.24 박세헌
+ *          2. stateless 모드 추가: 검증된 토큰의 subject로 인증 정보 생성 (회원 조회, BCrypt 암호화 x)
+ *          - 2026.10.18
  * @note 1. 매 request마다 토큰을 검사하여 securityContestHolder에 채워줌
  *       2. 해당 필터에서 자동 로그인을 구현 하면 될 것 같음
+ *       3. 리프레시 토큰은 모드와 상관없이 DB에 저장된 토큰과 비교
  */
 
 @Slf4j
 public class JWTCheckFilter extends BasicAuthenticationFilter {
 
+    private static final List<GrantedAuthority> AUTHORITIES = AuthorityUtils.createAuthorityList("BASIC");
+
     private final AuthService authService;
     private final UserRepository userRepository;
+    private final boolean stateless;
 
     public JWTCheckFilter(AuthenticationManager authenticationManager,
                           AuthService authService,
-                          UserRepository userRepository) {
+                          UserRepository userRepository,
+                          boolean stateless) {
         super(authenticationManager);
         this.authService = authService;
         this.userRepository = userRepository;
+        this.stateless = stateless;
     }
 
     @Override
@@ -79,11 +90,7 @@ public class JWTCheckFilter extends BasicAuthenticationFilter {
                 // 유저의 리프레시 토큰과 넘어온 리프레시 토큰이 같으면
                 if (Objects.equals(user.getRefreshToken(), token)) {
                     // 필터 통과
-                    UserDetails userDetails = authService.loadUserByUsername(result.getNickname());
-                    UsernamePasswordAuthenticationToken userToken = new UsernamePasswordAuthenticationToken(
-                            userDetails.getUsername(), userDetails.getPassword(), userDetails.getAuthorities()
-                    );
-                    SecurityContextHolder.getContext().setAuthentication(userToken);
+                    SecurityContextHolder.getContext().setAuthentication(createAuthentication(result.getNickname()));
                     chain.doFilter(request, response);
                 }
                 else {
@@ -107,12 +114,20 @@ public class JWTCheckFilter extends BasicAuthenticationFilter {
                 throw new TokenExpiredException("액세스 토큰이 만료되었습니다.");
             }
             // 필터 통과
-            UserDetails user = authService.loadUserByUsername(result.getNickname());
-            UsernamePasswordAuthenticationToken userToken = new UsernamePasswordAuthenticationToken(
-                    user.getUsername(), user.getPassword(), user.getAuthorities()
-            );
-            SecurityContextHolder.getContext().setAuthentication(userToken);
+            SecurityContextHolder.getContext().setAuthentication(createAuthentication(result.getNickname()));
             chain.doFilter(request, response);
         }
     }
+
+    // 인증 정보 생성 (stateless: 토큰의 subject로 생성, 아니라면 회원 조회)
+    private UsernamePasswordAuthenticationToken createAuthentication(String nickname) {
+        if (stateless) {
+            return new UsernamePasswordAuthenticationToken(nickname, null, AUTHORITIES);
+        }
+
+        UserDetails user = authService.loadUserByUsername(nickname);
+        return new UsernamePasswordAuthenticationToken(
+                user.getUsername(), user.getPassword(), user.getAuthorities()
+        );
+    }
 }
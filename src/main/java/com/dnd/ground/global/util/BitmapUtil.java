@@ -0,0 +1,54 @@
+package com.dnd.ground.global.util;
+
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+
+import java.io.*;
+import java.util.Collection;
+
+/**
+ * @description 칸 키 집합(압축 비트맵) 관련 util
+ *              1. 칸 키 목록 -> 비트맵
+ *              2. 비트맵 <-> byte[] 변환
+ * @since   2026-10-18
+ * @updated 1. Roaring64NavigableMap 기반 칸 집합 연산 추가
+ *          2. 사용하지 않는 집합 연산(합집합, 교집합, 차집합) 삭제
+ *          - 2026-10-18
+ * @note 1. 칸 키 상위 32비트(위도 인덱스) 별로 경도 인덱스 비트맵을 가지므로 같은 줄의 칸들이 함께 압축됨
+ *       2. 저장 전 run 압축(runOptimize) 적용
+ */
+
+public class BitmapUtil {
+
+    // 칸 키 목록 -> 비트맵
+    public static Roaring64NavigableMap of(Collection<Long> cellKeys) {
+        Roaring64NavigableMap bitmap = new Roaring64NavigableMap();
+        cellKeys.forEach(bitmap::addLong);
+        return bitmap;
+    }
+
+    // 비트맵 -> byte[]
+    public static byte[] serialize(Roaring64NavigableMap bitmap) {
+        bitmap.runOptimize();
+        try (ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+             DataOutputStream out = new DataOutputStream(bytes)) {
+            bitmap.serialize(out);
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // byte[] -> 비트맵
+    public static Roaring64NavigableMap deserialize(byte[] bytes) {
+        Roaring64NavigableMap bitmap = new Roaring64NavigableMap();
+        if (bytes == null || bytes.length == 0) return bitmap;
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            bitmap.deserialize(in);
+            return bitmap;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
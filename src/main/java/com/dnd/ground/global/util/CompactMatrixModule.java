@@ -0,0 +1,71 @@
+package com.dnd.ground.global.util;
+
+import com.dnd.ground.domain.matrix.dto.MatrixDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.type.CollectionType;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * @description 칸 리스트(List<MatrixDto>)를 압축 형식으로 직렬화하는 Jackson 모듈
+ *              1. VARINT: 격자 인덱스 차이의 varint -> base64 문자열 (MatrixCodec)
+ *              2. RECTANGLE: 인접한 칸을 합친 직사각형 리스트 (MatrixRectUtil)
+ * @since   2026-10-18
+ * @updated 1. 칸 리스트 압축 직렬화 추가
+ *          2. 직사각형 병합 형식 추가
+ *          - 2026-10-18
+ * @note 1. 압축 형식 응답(MatrixCodec.COMPACT_MEDIA_TYPE, MatrixRectUtil.RECTANGLE_MEDIA_TYPE)에 사용하는 ObjectMapper에만 등록
+ */
+
+public class CompactMatrixModule extends SimpleModule {
+
+    public enum Format {VARINT, RECTANGLE}
+
+    public CompactMatrixModule(Format format) {
+        super("CompactMatrixModule-" + format);
+        setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            public JsonSerializer<?> modifyCollectionSerializer(SerializationConfig config, CollectionType valueType,
+                                                                BeanDescription beanDesc, JsonSerializer<?> serializer) {
+                if (List.class.isAssignableFrom(valueType.getRawClass()) && valueType.getContentType().hasRawClass(MatrixDto.class)) {
+                    return new MatrixListSerializer(format);
+                }
+                return serializer;
+            }
+        });
+    }
+
+    /*칸 리스트 -> base64 문자열 또는 직사각형 리스트*/
+    static class MatrixListSerializer extends StdSerializer<List<MatrixDto>> {
+
+        private final Format format;
+
+        @SuppressWarnings("unchecked")
+        MatrixListSerializer(Format format) {
+            super((Class<List<MatrixDto>>) (Class<?>) List.class);
+            this.format = format;
+        }
+
+        @Override
+        public void serialize(List<MatrixDto> matrices, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            if (format == Format.VARINT) {
+                gen.writeString(MatrixCodec.encode(matrices));
+                return;
+            }
+
+            gen.writeStartArray();
+            for (double[] rect : MatrixRectUtil.merge(matrices)) {
+                gen.writeArray(rect, 0, rect.length);
+            }
+            gen.writeEndArray();
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.dnd.ground.global.util;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.interfaces.DecodedJWT;
 ;
@@ -12,11 +13,14 @@ import java.time.Instant;
  * @since   2022-08-24
  * @updated 1. JWT Util 클래스 생성
  *          - 2022.08.24 박세헌
+ *          2. 토큰 검증기(JWTVerifier)를 매번 만들지 않고 재사용
+ *          - 2026.10.18
  */
 
 public class JwtUtil {
 
     private static final Algorithm ALGORITHM = Algorithm.HMAC256("token-secret-key");
+    private static final JWTVerifier VERIFIER = JWT.require(ALGORITHM).build();  // thread-safe
     private static final long ACCESS_TIME = 60 * 30;  // 액세스 토큰 30분
     private static final long REFRESH_TIME = 60*60*24*14;  // 리프레시 토큰 2주
 
@@ -39,7 +43,7 @@ public class JwtUtil {
     // 유효성 검사(토큰 subject, 유효성 여부)
     public static JwtVerifyResult verify(String token){
         try {
-            DecodedJWT verify = JWT.require(ALGORITHM).build().verify(token);
+            DecodedJWT verify = VERIFIER.verify(token);
             return JwtVerifyResult.builder().success(true)
                     .nickname(verify.getSubject()).build();
         } catch (Exception ex){
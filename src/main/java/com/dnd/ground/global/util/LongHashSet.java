@@ -0,0 +1,93 @@
+package com.dnd.ground.global.util;
+
+import java.util.Arrays;
+
+/**
+ * @description 박싱 없이 long 값을 저장하는 해시 집합 (open addressing, linear probing)
+ * @since   2026-10-18
+ * @updated 1. 추가, 포함 여부, 배열 변환 추가
+ *          - 2026-10-18
+ * @note 1. 기록 끝 시 칸 키 중복 제거에 사용 (칸 하나 당 Long 객체, HashMap.Node 생성 없음)
+ *       2. 삭제는 지원하지 않음, 0은 빈 칸 표시로 쓰므로 따로 저장
+ */
+
+public class LongHashSet {
+
+    private static final long EMPTY = 0L;
+    private static final double LOAD_FACTOR = 0.5;
+
+    private long[] table;
+    private int size;
+    private boolean hasZero;
+
+    public LongHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        this.table = new long[capacity];
+    }
+
+    // 값 추가 (이미 있으면 false)
+    public boolean add(long value) {
+        if (value == EMPTY) {
+            if (hasZero) return false;
+            hasZero = true;
+            size++;
+            return true;
+        }
+
+        int mask = table.length - 1;
+        for (int i = hash(value) & mask; ; i = (i + 1) & mask) {
+            if (table[i] == EMPTY) {
+                table[i] = value;
+                if (++size > table.length * LOAD_FACTOR) rehash();
+                return true;
+            }
+            if (table[i] == value) return false;
+        }
+    }
+
+    // 포함 여부
+    public boolean contains(long value) {
+        if (value == EMPTY) return hasZero;
+
+        int mask = table.length - 1;
+        for (int i = hash(value) & mask; table[i] != EMPTY; i = (i + 1) & mask) {
+            if (table[i] == value) return true;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // 저장된 값 배열 (순서 보장x)
+    public long[] toArray() {
+        long[] values = new long[size];
+        int index = 0;
+        if (hasZero) values[index++] = EMPTY;
+        for (long value : table) {
+            if (value != EMPTY) values[index++] = value;
+        }
+        return values;
+    }
+
+    private void rehash() {
+        long[] old = table;
+        table = new long[old.length << 1];
+        size = hasZero ? 1 : 0;
+        for (long value : old) {
+            if (value != EMPTY) add(value);
+        }
+    }
+
+    // 칸 키는 상위/하위 32비트가 모두 의미 있으므로 섞어서 사용
+    private static int hash(long value) {
+        long h = value * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
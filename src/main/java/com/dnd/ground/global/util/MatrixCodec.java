@@ -0,0 +1,86 @@
+package com.dnd.ground.global.util;
+
+import com.dnd.ground.domain.matrix.dto.MatrixDto;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * @description 칸 리스트 압축 인코딩 util
+ *              1. 칸 리스트 -> 격자 인덱스 차이(delta)의 varint -> base64 문자열
+ *              2. base64 문자열 -> 칸 리스트 복원
+ * @since   2026-10-18
+ * @updated 1. 칸 리스트 압축 인코딩, 디코딩 추가
+ *          - 2026-10-18
+ * @note 1. Accept: application/vnd.ground.compact+json 요청 시 응답의 List<MatrixDto>를 이 형식으로 직렬화
+ *       2. 형식: [칸 수][위도 인덱스 차이][경도 인덱스 차이]... (모두 zigzag varint, 첫 칸은 0 기준)
+ *       3. 인덱스는 MatrixUtil 격자(1e-6도) 기준, 칸 순서는 그대로 유지
+ */
+
+public class MatrixCodec {
+
+    public static final String COMPACT_MEDIA_TYPE = "application/vnd.ground.compact+json";
+
+    // 칸 리스트 -> base64 문자열
+    public static String encode(List<MatrixDto> matrices) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(matrices.size() * 4 + 4);
+        writeVarint(out, matrices.size());
+
+        long prevLat = 0, prevLon = 0;
+        for (MatrixDto matrix : matrices) {
+            long lat = MatrixUtil.toLatitudeIndex(matrix.getLatitude());
+            long lon = MatrixUtil.toLongitudeIndex(matrix.getLongitude());
+            writeVarint(out, zigzag(lat - prevLat));
+            writeVarint(out, zigzag(lon - prevLon));
+            prevLat = lat;
+            prevLon = lon;
+        }
+        return Base64.getEncoder().encodeToString(out.toByteArray());
+    }
+
+    // base64 문자열 -> 칸 리스트
+    public static List<MatrixDto> decode(String encoded) {
+        byte[] bytes = Base64.getDecoder().decode(encoded);
+        int[] pos = {0};
+        int size = (int) readVarint(bytes, pos);
+
+        List<MatrixDto> matrices = new ArrayList<>(size);
+        long lat = 0, lon = 0;
+        for (int i = 0; i < size; i++) {
+            lat += unzigzag(readVarint(bytes, pos));
+            lon += unzigzag(readVarint(bytes, pos));
+            matrices.add(new MatrixDto((lat << 32) | lon));
+        }
+        return matrices;
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarint(byte[] bytes, int[] pos) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = bytes[pos[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
@@ -0,0 +1,117 @@
+package com.dnd.ground.global.util;
+
+import com.dnd.ground.domain.matrix.dto.MatrixDto;
+
+import java.util.*;
+
+/**
+ * @description 인접한 칸들을 직사각형으로 합치는 util
+ *              1. 칸 리스트 -> 위도 줄(row)별 연속 구간(run) -> 위아래 같은 구간을 합친 직사각형 리스트
+ * @since   2026-10-18
+ * @updated 1. 칸 리스트 직사각형 병합 추가
+ *          2. 추정한 칸 간격이 클라이언트 칸 간격보다 크면 합치지 않음 (빈 칸을 포함한 직사각형 방지)
+ *          - 2026-10-18
+ * @note 1. Accept: application/vnd.ground.rects+json 요청 시 응답의 List<MatrixDto>를 직사각형 리스트로 직렬화
+ *       2. 직사각형 = [최소 위도, 최소 경도, 최대 위도, 최대 경도] (칸 좌표 기준, 칸 하나는 최소 = 최대)
+ *          - 클라이언트는 자신의 칸 격자에서 직사각형 안의 칸들로 펼침
+ *       3. 칸 간격은 칸들 사이의 최소 간격으로 추정 (클라이언트 격자의 부동소수점 오차는 1 인덱스까지 허용)
+ *          - 한 축에 붙어 있는 칸이 없으면 최소 간격이 여러 칸이 되므로, MAX_STEP 보다 큰 간격은 합치지 않음
+ *       4. 위에서부터 탐욕적으로 합치므로 최소 개수를 보장하지는 않음
+ */
+
+public class MatrixRectUtil {
+
+    public static final String RECTANGLE_MEDIA_TYPE = "application/vnd.ground.rects+json";
+    private static final long TOLERANCE = 1;
+    private static final long MAX_STEP = 500;  // 클라이언트 칸 간격(약 0.0003도 = 300 인덱스)의 상한, 한 칸 건너뛴 간격보다 작음
+
+    // 칸 리스트 -> 직사각형 리스트 (중복 칸 제거)
+    public static List<double[]> merge(List<MatrixDto> matrices) {
+        //위도 인덱스 -> 경도 인덱스 (정렬)
+        TreeMap<Long, TreeSet<Long>> rows = new TreeMap<>();
+        for (MatrixDto matrix : matrices) {
+            rows.computeIfAbsent(MatrixUtil.toLatitudeIndex(matrix.getLatitude()), lat -> new TreeSet<>())
+                    .add(MatrixUtil.toLongitudeIndex(matrix.getLongitude()));
+        }
+
+        long latGap = adjacentGap(minGap(rows.keySet()));
+        long lonStep = Long.MAX_VALUE;
+        for (TreeSet<Long> row : rows.values()) lonStep = Math.min(lonStep, minGap(row));
+        long lonGap = adjacentGap(lonStep);
+
+        List<long[]> closed = new ArrayList<>();
+        List<long[]> open = new ArrayList<>();   // [시작 위도, 끝 위도, 시작 경도, 끝 경도]
+        Long prevLat = null;
+
+        for (Map.Entry<Long, TreeSet<Long>> entry : rows.entrySet()) {
+            long lat = entry.getKey();
+            boolean adjacent = prevLat != null && lat - prevLat <= latGap;
+
+            List<long[]> next = new ArrayList<>();
+            for (long[] run : toRuns(entry.getValue(), lonGap)) {
+                long[] extended = adjacent ? takeSameRun(open, run) : null;
+                if (extended != null) {
+                    extended[1] = lat;
+                    next.add(extended);
+                } else {
+                    next.add(new long[]{lat, lat, run[0], run[1]});
+                }
+            }
+            closed.addAll(open);
+            open = next;
+            prevLat = lat;
+        }
+        closed.addAll(open);
+
+        List<double[]> rects = new ArrayList<>(closed.size());
+        for (long[] rect : closed) {
+            rects.add(new double[]{
+                    MatrixUtil.toLatitude(rect[0] << 32), MatrixUtil.toLongitude(rect[2]),
+                    MatrixUtil.toLatitude(rect[1] << 32), MatrixUtil.toLongitude(rect[3])});
+        }
+        return rects;
+    }
+
+    // 한 줄의 경도 인덱스 -> 연속 구간 리스트 [시작, 끝]
+    private static List<long[]> toRuns(TreeSet<Long> row, long lonGap) {
+        List<long[]> runs = new ArrayList<>();
+        long[] run = null;
+        for (long lon : row) {
+            if (run != null && lon - run[1] <= lonGap) {
+                run[1] = lon;
+            } else {
+                run = new long[]{lon, lon};
+                runs.add(run);
+            }
+        }
+        return runs;
+    }
+
+    // 윗줄에서 같은 구간으로 끝난 직사각형을 꺼내기 (없으면 null)
+    private static long[] takeSameRun(List<long[]> open, long[] run) {
+        for (Iterator<long[]> it = open.iterator(); it.hasNext(); ) {
+            long[] rect = it.next();
+            if (Math.abs(rect[2] - run[0]) <= TOLERANCE && Math.abs(rect[3] - run[1]) <= TOLERANCE) {
+                it.remove();
+                return rect;
+            }
+        }
+        return null;
+    }
+
+    // 인접한 칸으로 볼 최대 간격 (간격을 추정할 수 없거나 클라이언트 칸 간격보다 크면 오차 범위만)
+    private static long adjacentGap(long step) {
+        return step > MAX_STEP ? TOLERANCE : step + TOLERANCE;
+    }
+
+    // 정렬된 인덱스들 사이의 최소 간격 (오차 이내 간격은 제외, 값이 하나면 Long.MAX_VALUE)
+    private static long minGap(Collection<Long> sorted) {
+        long gap = Long.MAX_VALUE;
+        Long prev = null;
+        for (long value : sorted) {
+            if (prev != null && value - prev > TOLERANCE) gap = Math.min(gap, value - prev);
+            prev = value;
+        }
+        return gap;
+    }
+}
@@ -0,0 +1,86 @@
+package com.dnd.ground.global.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * @description 칸 리스트를 메모리에 모으지 않고 응답에 바로 쓰는 JSON writer
+ *              1. 칸 리스트(matrices)를 제외한 dto 필드는 ObjectMapper로 작성
+ *              2. 칸 리스트는 칸 키를 받는 대로 {"latitude", "longitude"} 로 작성
+ * @since   2026-10-18
+ * @updated 1. 칸 리스트 streaming 작성 추가
+ *          2. dto 시작, 칸 작성, dto 끝을 나눠서 호출할 수 있도록 분리 (여러 회원의 칸을 한 번의 조회로 작성)
+ *          - 2026-10-18
+ * @note 1. 응답 형태는 기존 dto를 Jackson으로 직렬화한 결과와 같음 (matrices 필드만 마지막에 위치)
+ */
+
+@Component
+@RequiredArgsConstructor
+public class MatrixStreamWriter {
+
+    public static final String MATRICES = "matrices";
+
+    private final ObjectMapper objectMapper;
+
+    // 응답 스트림 -> JsonGenerator
+    public JsonGenerator createGenerator(OutputStream out) throws IOException {
+        return objectMapper.getFactory().createGenerator(out);
+    }
+
+    // dto 필드 작성 (exclude 필드 제외, 객체는 열어둔 채로 반환)
+    public void writeFieldsExcept(JsonGenerator gen, Object dto, String... excludes) throws IOException {
+        ObjectNode node = objectMapper.valueToTree(dto);
+        node.remove(List.of(excludes));
+
+        gen.writeStartObject();
+        for (Iterator<Map.Entry<String, JsonNode>> it = node.fields(); it.hasNext(); ) {
+            Map.Entry<String, JsonNode> field = it.next();
+            gen.writeFieldName(field.getKey());
+            objectMapper.writeTree(gen, field.getValue());
+        }
+    }
+
+    // dto + cellSource에서 읽은 칸 리스트 작성
+    public void writeWithMatrices(JsonGenerator gen, Object dto, Consumer<LongConsumer> cellSource) throws IOException {
+        startWithMatrices(gen, dto);
+        cellSource.accept(cellKey -> writeMatrix(gen, cellKey));
+        endWithMatrices(gen);
+    }
+
+    // dto 필드 작성 후 칸 리스트 열기
+    public void startWithMatrices(JsonGenerator gen, Object dto) throws IOException {
+        writeFieldsExcept(gen, dto, MATRICES);
+        gen.writeArrayFieldStart(MATRICES);
+    }
+
+    // 칸 하나 작성 (칸 키를 받는 콜백 안에서 호출되므로 unchecked 예외로 전달)
+    public void writeMatrix(JsonGenerator gen, long cellKey) {
+        try {
+            gen.writeStartObject();
+            gen.writeNumberField("latitude", MatrixUtil.toLatitude(cellKey));
+            gen.writeNumberField("longitude", MatrixUtil.toLongitude(cellKey));
+            gen.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 칸 리스트, dto 닫기
+    public void endWithMatrices(JsonGenerator gen) throws IOException {
+        gen.writeEndArray();
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,62 @@
+package com.dnd.ground.global.util;
+
+/**
+ * @description 칸(Matrix) 좌표 관련 util
+ *              1. 위도, 경도 -> 64비트 칸 키(cell key) 변환
+ *              2. 칸 키 -> 위도, 경도 복원
+ *              3. 위도, 경도 범위 확인
+ * @since   2026-10-18
+ * @updated 1. 고정 해상도(1e-6도) 격자 기준 칸 키 생성
+ *          2. 위도, 경도 범위 확인 추가
+ *          3. 칸 키가 정규화하는 범위 명시 (클라이언트 칸 격자가 아님)
+ *          4. 반올림을 floor(x + 0.5)로 변경 (backfill SQL과 같은 계산)
+ *          - 2026-10-18
+ * @note 1. 칸 키 = (위도 인덱스 << 32) | 경도 인덱스
+ *       2. 위도 인덱스 = floor(위도 * 1e6 + 0.5) + 90e6, 경도 인덱스 = floor(경도 * 1e6 + 0.5) + 180e6 (항상 양수)
+ *          - MySQL round()는 .5를 0에서 먼 쪽(DECIMAL) 또는 짝수 쪽(DOUBLE)으로 반올림해서 Java Math.round(+무한대 쪽)와 다름
+ *          - backfill SQL과 같은 키가 되도록 양쪽 모두 floor(x + 0.5) 사용
+ *       3. 칸 키는 클라이언트가 보낸 칸 좌표의 부동소수점 오차(1e-6도 미만)만 정규화함
+ *          - 클라이언트 칸 간격(약 0.0003도, 지역에 따라 위도 간격이 다름)으로 묶는 공간 격자가 아님
+ *          - 같은 칸 좌표가 다시 오면 같은 키가 되어 중복 제거되지만, 같은 칸 안의 서로 다른 GPS 좌표는 다른 키가 됨
+ *       4. 칸 좌표 자체는 클라이언트 격자를 따른다고 가정 (서버에서 원시 GPS 좌표를 칸에 맞추지 않음)
+ */
+
+public class MatrixUtil {
+
+    public static final double RESOLUTION = 1_000_000.0;  // 1도 당 격자 수 (약 0.1m)
+    private static final long LATITUDE_OFFSET = 90_000_000L;
+    private static final long LONGITUDE_OFFSET = 180_000_000L;
+    private static final long INDEX_MASK = 0xFFFFFFFFL;
+
+    // 위도(-90 ~ 90), 경도(-180 ~ 180) 범위 내 값인지 (NaN, 무한대 제외)
+    public static boolean isValid(Double latitude, Double longitude) {
+        return latitude != null && longitude != null
+                && latitude >= -90 && latitude <= 90
+                && longitude >= -180 && longitude <= 180;
+    }
+
+    // 위도 인덱스
+    public static long toLatitudeIndex(double latitude) {
+        return (long) Math.floor(latitude * RESOLUTION + 0.5) + LATITUDE_OFFSET;
+    }
+
+    // 경도 인덱스
+    public static long toLongitudeIndex(double longitude) {
+        return (long) Math.floor(longitude * RESOLUTION + 0.5) + LONGITUDE_OFFSET;
+    }
+
+    // 위도, 경도 -> 칸 키
+    public static long toCellKey(double latitude, double longitude) {
+        return (toLatitudeIndex(latitude) << 32) | toLongitudeIndex(longitude);
+    }
+
+    // 칸 키 -> 위도
+    public static double toLatitude(long cellKey) {
+        return ((cellKey >>> 32) - LATITUDE_OFFSET) / RESOLUTION;
+    }
+
+    // 칸 키 -> 경도
+    public static double toLongitude(long cellKey) {
+        return ((cellKey & INDEX_MASK) - LONGITUDE_OFFSET) / RESOLUTION;
+    }
+}
@@ -0,0 +1,112 @@
+package com.dnd.ground.global.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * @description 화면 구성 섹션 병렬 조회 util
+ *              1. 섹션별 조회를 제한된 크기의 스레드 풀에서 동시에 실행
+ *              2. 섹션마다 별도의 읽기 전용 트랜잭션(영속성 컨텍스트)과 timeout 적용
+ * @since   2026-10-18
+ * @updated 1. 메인화면 섹션 병렬 조회
+ *          2. timeout 시 섹션 조회 취소, 스레드 수를 커넥션 풀 크기의 절반 이하로 제한
+ *          3. 섹션에서 발생한 Error는 감싸지 않고 그대로 던짐
+ *          - 2026-10-18
+ * @note 1. timeout이 지난 섹션은 취소(interrupt)하고 fallback 값을 반환, 호출한 쪽에서 fallback 여부를 응답에 표시
+ *       2. 스레드 풀과 대기열이 가득 차면 요청 스레드에서 직접 실행(CallerRunsPolicy)
+ *       3. 섹션 안에서는 엔티티가 아닌 dto만 반환 (다른 영속성 컨텍스트의 엔티티 공유x)
+ *       4. 섹션마다 커넥션을 하나씩 사용하므로 호출하는 쪽은 커넥션(트랜잭션)을 잡지 않은 채로 기다려야 함
+ *          - 기다리는 요청들이 커넥션을 모두 잡으면 섹션은 커넥션을 얻지 못해 timeout
+ */
+
+@Slf4j
+@Component
+public class SectionExecutor {
+
+    private final ThreadPoolTaskExecutor executor;
+    private final TransactionTemplate transactionTemplate;
+    private final long timeoutMillis;
+
+    public SectionExecutor(PlatformTransactionManager transactionManager,
+                           @Value("${home.section.pool-size:16}") int poolSize,
+                           @Value("${home.section.queue-capacity:200}") int queueCapacity,
+                           @Value("${home.section.timeout-millis:2000}") long timeoutMillis,
+                           @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maxConnections) {
+        //섹션이 커넥션 풀을 모두 차지하지 않도록 제한 (나머지는 요청 스레드의 조회용)
+        int limit = Math.max(1, maxConnections / 2);
+        if (poolSize > limit) {
+            log.warn("**섹션 스레드 수 제한** 설정:{} -> {} (커넥션 풀:{})", poolSize, limit, maxConnections);
+            poolSize = limit;
+        }
+
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("section-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transactionTemplate.setReadOnly(true);
+        transactionTemplate.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(timeoutMillis + 999)));
+
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    // 섹션 조회 시작 (timeout 시 조회를 취소하고 fallback 반환)
+    public <T> CompletableFuture<T> supply(String section, Supplier<T> task, T fallback) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> running = executor.submit(() -> {
+            try {
+                result.complete(transactionTemplate.execute(status -> task.get()));
+            } catch (RuntimeException | Error e) {
+                result.completeExceptionally(e);
+            }
+        });
+
+        //orTimeout은 결과만 timeout 처리하므로 실행 중인 조회는 직접 취소 (DB 조회는 트랜잭션 timeout으로 중단)
+        return result.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+                .exceptionally(ex -> {
+                    Throwable cause = ex instanceof CompletionException ? ex.getCause() : ex;
+                    if (cause instanceof TimeoutException) {
+                        running.cancel(true);
+                        log.warn("**섹션 조회 시간 초과** 섹션:{} | timeout:{}ms", section, timeoutMillis);
+                        return fallback;
+                    }
+                    throw ex instanceof CompletionException ? (CompletionException) ex : new CompletionException(ex);
+                });
+    }
+
+    // 섹션 조회 결과 (섹션에서 발생한 unchecked 예외, Error는 그대로, checked 예외는 CompletionException으로 감싸서 던짐)
+    public static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Error) throw (Error) cause;
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
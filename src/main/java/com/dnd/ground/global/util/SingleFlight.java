@@ -0,0 +1,58 @@
+package com.dnd.ground.global.util;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * @description 동일한 요청 동시 실행 합치기(single-flight) util
+ *              1. 같은 key의 조회가 진행 중이면 새로 조회하지 않고 진행 중인 결과를 함께 받음
+ *              2. 먼저 들어온 요청(leader)만 조회
+ * @since   2026-10-18
+ * @updated 1. 메인화면, 누적 칸 랭킹, 진행 중인 챌린지 조회에 적용
+ *          2. leader를 트랜잭션 없이 실행 (조회하는 쪽에서 필요한 만큼만 트랜잭션 사용)
+ *          - 2026-10-18
+ * @note 1. 결과는 여러 요청이 공유하므로 엔티티가 아닌 dto만 반환하고, 받은 쪽에서 수정 금지
+ *       2. 기다리는 요청이 커넥션을 잡지 않도록 호출하는 메소드는 트랜잭션 밖(NOT_SUPPORTED)에서 실행
+ *          - 조회(task)는 직접 트랜잭션을 시작 (예: TransactionTemplate), 다른 스레드를 기다리는 동안에는 트랜잭션을 잡지 않음
+ *       3. leader의 예외는 기다리던 요청에도 그대로 전달
+ *       4. 조회가 끝나면 결과를 보관하지 않음 (캐시x)
+ */
+
+@Component
+public class SingleFlight {
+
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    // key가 같은 조회가 진행 중이면 그 결과를, 아니면 직접 조회한 결과를 반환
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> task) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) return (T) await(running);
+
+        try {
+            T result = task.get();
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            if (e.getCause() instanceof Error) throw (Error) e.getCause();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.dnd.ground.global.util;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.temporal.IsoFields;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * @description 주(week) 관련 util
+ *              1. 날짜 -> ISO 주 키(연도 * 100 + 주차) 변환
+ *              2. 주의 시작(월요일 00:00) 계산
+ *              3. 조회 기간이 한 주 전체인지 확인
+ * @since   2026-10-18
+ * @updated 1. 주 키, 주 시작, 한 주 전체 여부 추가
+ *          - 2026-10-18
+ * @note 1. 주 키는 MySQL YEARWEEK(date, 3)과 같은 값 (예: 2022-08-22 -> 202234)
+ */
+
+public class WeekUtil {
+
+    // 날짜 -> 주 키
+    public static int toWeek(LocalDateTime date) {
+        return date.get(IsoFields.WEEK_BASED_YEAR) * 100 + date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR);
+    }
+
+    // 이번주 주 키
+    public static int thisWeek() {
+        return toWeek(LocalDateTime.now());
+    }
+
+    // 날짜가 속한 주의 월요일 00:00
+    public static LocalDateTime startOfWeek(LocalDateTime date) {
+        return date.toLocalDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).atStartOfDay();
+    }
+
+    // 조회 기간(start~end)이 한 주의 기록 전체를 포함하는지 여부 (월요일 00:00 ~ 일요일 끝 또는 현재)
+    public static boolean isWholeWeek(LocalDateTime start, LocalDateTime end) {
+        if (start == null || end == null || !start.equals(startOfWeek(start))) return false;
+
+        LocalDateTime nextMonday = start.plusWeeks(1);
+        LocalDateTime now = LocalDateTime.now();
+        return end.isBefore(nextMonday) && (!end.isBefore(nextMonday.minusSeconds(1)) || !end.isBefore(now));
+    }
+}
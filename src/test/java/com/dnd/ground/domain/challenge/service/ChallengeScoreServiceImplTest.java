@@ -0,0 +1,133 @@
+package com.dnd.ground.domain.challenge.service;
+
+import com.dnd.ground.domain.challenge.Challenge;
+import com.dnd.ground.domain.challenge.ChallengeStatus;
+import com.dnd.ground.domain.challenge.ChallengeType;
+import com.dnd.ground.domain.challenge.UserChallenge;
+import com.dnd.ground.domain.challenge.dto.ChallengeCreateRequestDto;
+import com.dnd.ground.domain.challenge.repository.ChallengeRepository;
+import com.dnd.ground.domain.challenge.repository.UserChallengeRepository;
+import com.dnd.ground.domain.user.User;
+import com.dnd.ground.domain.user.repository.UserRepository;
+import com.dnd.ground.global.dummy.DummyService;
+import com.dnd.ground.global.util.MatrixUtil;
+import com.dnd.ground.global.util.WeekUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @note 1. 동시에 점수를 갱신하므로 테스트 데이터는 커밋하고 끝나면 삭제
+ */
+
+@SpringBootTest
+class ChallengeScoreServiceImplTest {
+
+    @Autowired ChallengeScoreService challengeScoreService;
+    @Autowired ChallengeService challengeService;
+    @Autowired ChallengeRepository challengeRepository;
+    @Autowired UserChallengeRepository userChallengeRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired DummyService dummyService;
+    @Autowired TransactionTemplate transactionTemplate;
+
+    private static final String MASTER = "csTestA";
+    private static final String MEMBER = "csTestB";
+    private static final int THREADS = 4;
+    private static final double STEP = 0.000374;  // 클라이언트 칸 간격
+
+    Map<String, User> users = new HashMap<>();
+    Long challengeId;
+
+    @BeforeEach
+    void setUp() {
+        for (String nickname : List.of(MASTER, MEMBER)) {
+            users.put(nickname, userRepository.save(User.builder()
+                    .nickname(nickname)
+                    .created(LocalDateTime.now())
+                    .isShowMine(true)
+                    .isShowFriend(true)
+                    .isPublicRecord(true)
+                    .pictureName("user/profile/default_profile.png")
+                    .picturePath("https://dnd-ground-bucket.s3.ap-northeast-2.amazonaws.com/user/profile/default_profile.png")
+                    .build()));
+        }
+
+        //이번주 월요일에 시작한 넓히기 챌린지를 진행 상태로 변경
+        LocalDate started = WeekUtil.startOfWeek(LocalDateTime.now()).toLocalDate();
+        challengeService.createChallenge(new ChallengeCreateRequestDto(MASTER, "점수 동시 갱신", "메시지", started, ChallengeType.Widen, Set.of(MEMBER)));
+        challengeId = transactionTemplate.execute(status -> {
+            List<UserChallenge> ucs = userChallengeRepository.findByUser(users.get(MASTER));
+            Challenge challenge = ucs.get(0).getChallenge();
+            challenge.updateStatus(ChallengeStatus.Progress);
+            for (UserChallenge uc : userChallengeRepository.findUCByChallenge(challenge)) {
+                if (uc.getStatus() != ChallengeStatus.Master) uc.changeStatus(ChallengeStatus.Progress);
+            }
+            return challenge.getId();
+        });
+    }
+
+    @AfterEach
+    void cleanUp() {
+        for (String nickname : users.keySet()) {
+            dummyService.deleteDummyUser(nickname);
+        }
+        challengeRepository.deleteById(challengeId);
+    }
+
+    // 공통 칸 1개 + 기록마다 다른 칸 2개
+    private long[] createCellKeys(int index) {
+        return new long[]{
+                MatrixUtil.toCellKey(37.331558, -122.030216),
+                MatrixUtil.toCellKey(37.331558 + (index + 1) * STEP, -122.030216),
+                MatrixUtil.toCellKey(37.331558 + (index + 1) * STEP, -122.030216 + STEP)};
+    }
+
+    @Test
+    void 점수가_없는_회원의_기록_끝이_동시에_와도_모두_반영() throws Exception {
+        //given: 아직 점수 행이 없는 회원
+        Long userId = users.get(MASTER).getId();
+        assertThat(challengeScoreService.getScores(challengeId)).doesNotContainKey(userId);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        //when: 같은 회원의 점수 갱신 동시 요청 (요청마다 별도 트랜잭션)
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            long[] cellKeys = createCellKeys(i);
+            futures.add(executor.submit(() -> {
+                ready.countDown();
+                start.await();
+                challengeScoreService.addRecord(userId, LocalDateTime.now(), cellKeys);
+                return null;
+            }));
+        }
+        ready.await();
+        start.countDown();
+
+        //then: deadlock 없이 모두 저장 (예외가 있으면 get()에서 전달), 점수 = 공통 칸 1 + 기록마다 2
+        for (Future<?> future : futures) future.get();
+        executor.shutdown();
+
+        assertThat(challengeScoreService.getScores(challengeId).get(userId)).isEqualTo(1L + 2L * THREADS);
+    }
+}
@@ -1,61 +1,122 @@
 package com.dnd.ground.domain.challenge.service;
 
+import com.dnd.ground.domain.challenge.Challenge;
+import com.dnd.ground.domain.challenge.ChallengeColor;
+import com.dnd.ground.domain.challenge.ChallengeResult;
+import com.dnd.ground.domain.challenge.ChallengeStatus;
+import com.dnd.ground.domain.challenge.ChallengeType;
 import com.dnd.ground.domain.challenge.UserChallenge;
 import com.dnd.ground.domain.challenge.dto.ChallengeCreateRequestDto;
+import com.dnd.ground.domain.challenge.dto.ChallengeMapResponseDto;
+import com.dnd.ground.domain.challenge.dto.ChallengeResponseDto;
 import com.dnd.ground.domain.challenge.repository.ChallengeRepository;
+import com.dnd.ground.domain.challenge.repository.ChallengeResultRepository;
 import com.dnd.ground.domain.challenge.repository.UserChallengeRepository;
+import com.dnd.ground.domain.exerciseRecord.dto.EndRequestDto;
+import com.dnd.ground.domain.exerciseRecord.service.ExerciseRecordService;
 import com.dnd.ground.domain.user.User;
+import com.dnd.ground.domain.user.dto.UserResponseDto;
 import com.dnd.ground.domain.user.repository.UserRepository;
+import com.dnd.ground.global.exception.CNotFoundException;
+import com.dnd.ground.global.util.WeekUtil;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
-import static org.junit.jupiter.api.Assertions.*;
+import static org.assertj.core.api.Assertions.tuple;
 
-@SpringBootTest
+//chunk 크기를 1로 줄여서 챌린지 종료가 여러 chunk(트랜잭션)로 나뉘어도 결과가 같은지 확인
+@SpringBootTest(properties = "challenge.chunk-size=1")
 class ChallengeServiceImplTest {
 
     @Autowired ChallengeService challengeService;
+    @Autowired ExerciseRecordService exerciseRecordService;
     @Autowired ChallengeRepository challengeRepository;
+    @Autowired ChallengeResultRepository challengeResultRepository;
     @Autowired UserChallengeRepository userChallengeRepository;
     @Autowired UserRepository userRepository;
+    @Autowired ObjectMapper objectMapper;
+
+    private static final double STEP = 0.000374;  // 클라이언트 칸 간격
 
     public List<User> createUser() {
-        User userA = User.builder()
-                .id(1L)
-                .userName("nameA")
-                .nickName("nickA")
-                .friends(new ArrayList<>())
-                .challenges(new ArrayList<>())
-                .build();
-
-        User userB = User.builder()
-                .id(2L)
-                .userName("nameB")
-                .nickName("nickB")
-                .friends(new ArrayList<>())
-                .challenges(new ArrayList<>())
-                .build();
-
-        User userC = User.builder()
-                .id(3L)
-                .userName("nameC")
-                .nickName("nickC")
-                .friends(new ArrayList<>())
-                .challenges(new ArrayList<>())
-                .build();
-
-        userRepository.save(userA);
-        userRepository.save(userB);
-        userRepository.save(userC);
-
-        return List.of(userA, userB, userC);
+        List<User> users = new ArrayList<>();
+        for (String nickname : List.of("chTestA", "chTestB", "chTestC")) {
+            users.add(userRepository.save(User.builder()
+                    .nickname(nickname)
+                    .created(LocalDateTime.now())
+                    .isShowMine(true)
+                    .isShowFriend(true)
+                    .isPublicRecord(true)
+                    .pictureName("user/profile/default_profile.png")
+                    .picturePath("https://dnd-ground-bucket.s3.ap-northeast-2.amazonaws.com/user/profile/default_profile.png")
+                    .build()));
+        }
+        return users;
+    }
+
+    // 이번주 월요일에 시작한 챌린지 생성
+    private ChallengeCreateRequestDto createRequest(String master, String name, ChallengeType type, Set<String> friends) {
+        LocalDate started = WeekUtil.startOfWeek(LocalDateTime.now()).toLocalDate();
+        return new ChallengeCreateRequestDto(master, name, "메시지", started, type, friends);
+    }
+
+    // 회원의 챌린지 (이름으로 구분)
+    private Challenge findChallenge(User user, String name) {
+        return userChallengeRepository.findByUser(user).stream()
+                .map(UserChallenge::getChallenge)
+                .filter(challenge -> challenge.getName().equals(name))
+                .findFirst().orElseThrow();
+    }
+
+    // 챌린지와 참여 회원들을 진행 상태로 변경 (주최자는 그대로)
+    private void startChallenge(Challenge challenge) {
+        challenge.updateStatus(ChallengeStatus.Progress);
+        for (UserChallenge uc : userChallengeRepository.findUCByChallenge(challenge)) {
+            if (uc.getStatus() != ChallengeStatus.Master) uc.changeStatus(ChallengeStatus.Progress);
+        }
+    }
+
+    // 서로 다른 칸 cellCount개를 지나는 기록 끝
+    private void recordEnd(String nickname, int cellCount) {
+        ArrayList<ArrayList<Double>> matrices = new ArrayList<>();
+        for (int i = 0; i < cellCount; i++) {
+            matrices.add(new ArrayList<>(List.of(37.331558, -122.030216 + i * STEP)));
+        }
+
+        EndRequestDto endRequestDto = new EndRequestDto();
+        endRequestDto.setNickname(nickname);
+        endRequestDto.setDistance(0);
+        endRequestDto.setStepCount(0);
+        endRequestDto.setExerciseTime(60);
+        endRequestDto.setMessage("challenge-test");
+        endRequestDto.setStarted(LocalDateTime.now());
+        endRequestDto.setEnded(LocalDateTime.now());
+        endRequestDto.setMatrices(matrices);
+        exerciseRecordService.recordEnd(endRequestDto);
+    }
+
+    // 챌린지 최종 결과 (닉네임 -> 순위)
+    private Map<String, Integer> findRanks(Challenge challenge) {
+        Map<String, Integer> ranks = new HashMap<>();
+        for (ChallengeResult result : challengeResultRepository.findByChallengeWithUser(challenge)) {
+            ranks.put(result.getUser().getNickname(), result.getRank());
+        }
+        return ranks;
     }
 
     @Test @Transactional
@@ -68,20 +129,17 @@ class ChallengeServiceImplTest {
 
 
         //when
-        ChallengeCreateRequestDto requestWith2 = new ChallengeCreateRequestDto("3명: 챌린지1", "3명이 함께하는 챌린지", "#FFFFFF", Set.of("nickA","nickB","nickC"));
-        challengeService.createChallenge(requestWith2);
-
-        ChallengeCreateRequestDto requestWith3 = new ChallengeCreateRequestDto("2명: 챌린지2", "2명이 함께하는 챌린지", "#CCCCCC", Set.of("nickA","nickB"));
-        challengeService.createChallenge(requestWith3);
+        challengeService.createChallenge(createRequest("chTestA", "3명: 챌린지1", ChallengeType.Accumulate, Set.of("chTestB", "chTestC")));
+        challengeService.createChallenge(createRequest("chTestA", "2명: 챌린지2", ChallengeType.Widen, Set.of("chTestB")));
 
         List<UserChallenge> AChallenges = userChallengeRepository.findByUser(userA); //A의 챌린지 목록
-        List<UserChallenge> BChallenges = userChallengeRepository.findByUser(userB); //A의 챌린지 목록
-        List<UserChallenge> CChallenges = userChallengeRepository.findByUser(userC); //A의 챌린지 목록
+        List<UserChallenge> BChallenges = userChallengeRepository.findByUser(userB); //B의 챌린지 목록
+        List<UserChallenge> CChallenges = userChallengeRepository.findByUser(userC); //C의 챌린지 목록
 
 
         //then
-        Assertions.assertThat(challengeRepository.findAll().size()).isEqualTo(2); //2개의 챌린지 생성 여부
-        Assertions.assertThat(userChallengeRepository.findAll().size()).isEqualTo(5); //2개의 챌린지에 참여하는 총 유저 5명
+        Assertions.assertThat(userChallengeRepository.findUCByChallenge(findChallenge(userA, "3명: 챌린지1")).size()).isEqualTo(3);
+        Assertions.assertThat(userChallengeRepository.findUCByChallenge(findChallenge(userA, "2명: 챌린지2")).size()).isEqualTo(2);
 
         Assertions.assertThat(AChallenges.size()).isEqualTo(2);
         Assertions.assertThat(BChallenges.size()).isEqualTo(2);
@@ -94,14 +152,138 @@ class ChallengeServiceImplTest {
         createUser();
 
         //when
-        ChallengeCreateRequestDto request = new ChallengeCreateRequestDto("잘못된 닉네임이 들어간 챌린지", "에러나야 함.", "#FFFFFF", Set.of("nickA","nickB","FALSE"));
+        ChallengeCreateRequestDto request = createRequest("chTestA", "잘못된 닉네임이 들어간 챌린지", ChallengeType.Widen, Set.of("chTestB", "FALSE"));
 
         //then
-        try {
-            challengeService.createChallenge(request);
-        } catch (Exception e) {
-            Assertions.assertThat(e.getMessage()).isEqualTo("No value present");
+        Assertions.assertThatThrownBy(() -> challengeService.createChallenge(request))
+                .isInstanceOf(CNotFoundException.class);
+    }
+
+    @Test @Transactional
+    public void 챌린지_종료_시_최종_결과_저장() {
+        //given: 챌린지1(기록하기) A, B, C / 챌린지2(넓히기) A, B
+        List<User> users = createUser();
+        User userA = users.get(0);
+
+        challengeService.createChallenge(createRequest("chTestA", "챌린지1", ChallengeType.Accumulate, Set.of("chTestB", "chTestC")));
+        challengeService.createChallenge(createRequest("chTestA", "챌린지2", ChallengeType.Widen, Set.of("chTestB")));
+        Challenge accumulate = findChallenge(userA, "챌린지1");
+        Challenge widen = findChallenge(userA, "챌린지2");
+        startChallenge(accumulate);
+        startChallenge(widen);
+
+        //A: 3칸, B: 2칸, C: 3칸
+        recordEnd("chTestA", 3);
+        recordEnd("chTestB", 2);
+        recordEnd("chTestC", 3);
+
+        //when: chunk 크기 1 -> 챌린지마다 따로 종료
+        challengeService.endPeriodChallenge();
+
+        //then: 점수 내림차순, 동점은 같은 순위
+        Assertions.assertThat(findRanks(accumulate)).isEqualTo(Map.of("chTestA", 1, "chTestC", 1, "chTestB", 3));
+        Assertions.assertThat(findRanks(widen)).isEqualTo(Map.of("chTestA", 1, "chTestB", 2));
+
+        Assertions.assertThat(challengeRepository.findById(accumulate.getId()).orElseThrow().getStatus()).isEqualTo(ChallengeStatus.Done);
+        Assertions.assertThat(challengeRepository.findById(widen.getId()).orElseThrow().getStatus()).isEqualTo(ChallengeStatus.Done);
+    }
+
+    @Test @Transactional
+    public void 완료된_챌린지_리스트는_저장된_최종_결과로_조회() {
+        //given
+        List<User> users = createUser();
+        User userA = users.get(0);
+
+        challengeService.createChallenge(createRequest("chTestA", "챌린지1", ChallengeType.Accumulate, Set.of("chTestB", "chTestC")));
+        Challenge challenge = findChallenge(userA, "챌린지1");
+        startChallenge(challenge);
+
+        recordEnd("chTestA", 1);
+        recordEnd("chTestB", 3);
+        challengeService.endPeriodChallenge();
+
+        //when: 종료 후 기록이 추가되어도 최종 결과는 바뀌지 않음
+        recordEnd("chTestC", 5);
+        List<ChallengeResponseDto.Done> doneB = challengeService.findDoneChallenge("chTestB");
+        List<ChallengeResponseDto.Done> doneC = challengeService.findDoneChallenge("chTestC");
+
+        //then
+        Assertions.assertThat(doneB).hasSize(1);
+        Assertions.assertThat(doneB.get(0).getUuid()).isEqualTo(challenge.getUuid());
+        Assertions.assertThat(doneB.get(0).getRank()).isEqualTo(1);
+        Assertions.assertThat(doneB.get(0).getPicturePaths()).hasSize(3);
+        Assertions.assertThat(doneC.get(0).getRank()).isEqualTo(3);
+    }
+
+    @Test @Transactional
+    public void 챌린지_상세_지도는_회원_id_순으로_색깔과_칸을_작성() throws Exception {
+        //given: A 3칸, B 기록 없음, C 2칸
+        List<User> users = createUser();
+        User userA = users.get(0);
+
+        challengeService.createChallenge(createRequest("chTestA", "챌린지1", ChallengeType.Widen, Set.of("chTestB", "chTestC")));
+        Challenge challenge = findChallenge(userA, "챌린지1");
+        startChallenge(challenge);
+
+        recordEnd("chTestA", 3);
+        recordEnd("chTestC", 2);
+
+        //when
+        ChallengeMapResponseDto.Detail detail = challengeService.getChallengeDetailMap(challenge.getUuid());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        challengeService.getChallengeDetailMapStream(challenge.getUuid()).writeTo(out);
+        JsonNode streamed = objectMapper.readTree(out.toByteArray()).get("matrixList");
+
+        //then: 회원 id 순, 칸이 없는 회원은 빈 리스트, 스트리밍 응답도 같은 색깔과 칸
+        List<ChallengeMapResponseDto.UserMapInfo> matrixList = detail.getMatrixList();
+        Assertions.assertThat(matrixList).hasSize(3);
+        Assertions.assertThat(streamed).hasSize(3);
+
+        int[] cellCounts = {3, 0, 2};
+        for (int i = 0; i < users.size(); i++) {
+            ChallengeColor color = userChallengeRepository.findChallengeColor(users.get(i), challenge);
+            Assertions.assertThat(matrixList.get(i).getColor()).isEqualTo(color);
+            Assertions.assertThat(matrixList.get(i).getMatrices()).hasSize(cellCounts[i]);
+
+            Assertions.assertThat(streamed.get(i).get("color").asText()).isEqualTo(color.name());
+            Set<List<Double>> streamedCells = new HashSet<>();
+            streamed.get(i).get("matrices").forEach(cell -> streamedCells.add(List.of(cell.get("latitude").asDouble(), cell.get("longitude").asDouble())));
+            Set<List<Double>> cells = new HashSet<>();
+            matrixList.get(i).getMatrices().forEach(cell -> cells.add(List.of(cell.getLatitude(), cell.getLongitude())));
+            Assertions.assertThat(streamedCells).isEqualTo(cells);
         }
+    }
+
+    @Test @Transactional
+    public void 완료된_챌린지_랭킹은_최종_결과_대기_중인_챌린지_랭킹은_0점() {
+        //given
+        List<User> users = createUser();
+        User userA = users.get(0);
+
+        challengeService.createChallenge(createRequest("chTestA", "챌린지1", ChallengeType.Accumulate, Set.of("chTestB", "chTestC")));
+        Challenge done = findChallenge(userA, "챌린지1");
+        startChallenge(done);
+
+        recordEnd("chTestA", 1);
+        recordEnd("chTestB", 3);
+        challengeService.endPeriodChallenge();
+
+        //종료 후 기록, 시작 전인 챌린지
+        recordEnd("chTestC", 5);
+        challengeService.createChallenge(createRequest("chTestA", "챌린지2", ChallengeType.Accumulate, Set.of("chTestB", "chTestC")));
+        Challenge wait = findChallenge(userA, "챌린지2");
+
+        //when
+        List<UserResponseDto.Ranking> doneRankings = challengeService.getChallengeDetailMap(done.getUuid()).getRankingList();
+        List<UserResponseDto.Ranking> waitRankings = challengeService.getChallengeDetailMap(wait.getUuid()).getRankingList();
 
+        //then: 완료된 챌린지는 종료 시점의 결과, 대기 중인 챌린지는 기록과 상관없이 모두 1등(0점)
+        Assertions.assertThat(doneRankings).extracting("nickname", "rank", "score")
+                .containsExactly(tuple("chTestB", 1, 3L), tuple("chTestA", 2, 1L), tuple("chTestC", 3, 0L));
+        Assertions.assertThat(waitRankings).hasSize(3)
+                .allSatisfy(ranking -> {
+                    Assertions.assertThat(ranking.getRank()).isEqualTo(1);
+                    Assertions.assertThat(ranking.getScore()).isZero();
+                });
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,200 @@
+package com.dnd.ground.domain.exerciseRecord.service;
+
+import com.dnd.ground.domain.exerciseRecord.Repository.ExerciseRecordRepository;
+import com.dnd.ground.domain.exerciseRecord.dto.EndRequestDto;
+import com.dnd.ground.domain.friend.Friend;
+import com.dnd.ground.domain.friend.FriendStatus;
+import com.dnd.ground.domain.friend.repository.FriendRepository;
+import com.dnd.ground.domain.matrix.UserWeekSummary;
+import com.dnd.ground.domain.matrix.matrixRepository.UserWeekCellRepository;
+import com.dnd.ground.domain.matrix.matrixRepository.UserWeekSummaryRepository;
+import com.dnd.ground.domain.user.User;
+import com.dnd.ground.domain.user.dto.RankResponseDto;
+import com.dnd.ground.domain.user.dto.UserRequestDto;
+import com.dnd.ground.domain.user.dto.UserResponseDto;
+import com.dnd.ground.domain.user.repository.UserRepository;
+import com.dnd.ground.global.dummy.DummyService;
+import com.dnd.ground.global.exception.CNotValidationException;
+import com.dnd.ground.global.exception.CommonErrorCode;
+import com.dnd.ground.global.util.WeekUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @note 1. 동시에 기록 끝을 요청하므로 테스트 데이터는 커밋하고 끝나면 삭제
+ *       2. 걸음 수 랭킹은 메모리 랭킹(이번주 전체 조회)과 DB 조회(시작 시간을 1초 늦춤) 결과를 비교
+ */
+
+@SpringBootTest
+class ExerciseRecordServiceImplTest {
+
+    @Autowired ExerciseRecordService exerciseRecordService;
+    @Autowired LeaderboardService leaderboardService;
+    @Autowired ExerciseRecordRepository exerciseRecordRepository;
+    @Autowired DummyService dummyService;
+    @Autowired UserRepository userRepository;
+    @Autowired UserWeekCellRepository userWeekCellRepository;
+    @Autowired UserWeekSummaryRepository userWeekSummaryRepository;
+    @Autowired FriendRepository friendRepository;
+
+    private static final String NICKNAME = "erTestA";
+    private static final List<String> FRIENDS = List.of("erTestB", "erTestC");
+    private static final int THREADS = 4;
+    private static final double STEP = 0.000374;  // 클라이언트 칸 간격
+
+    User user;
+    Map<String, User> users = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        user = createUser(NICKNAME);
+        users.put(NICKNAME, user);
+        for (String friend : FRIENDS) {
+            users.put(friend, createUser(friend));
+            friendRepository.save(new Friend(user, users.get(friend), FriendStatus.Accept));
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        for (String nickname : users.keySet()) {
+            dummyService.deleteDummyUser(nickname);
+        }
+        leaderboardService.rebuild();
+    }
+
+    private User createUser(String nickname) {
+        return userRepository.save(User.builder()
+                .nickname(nickname)
+                .created(LocalDateTime.now())
+                .isShowMine(true)
+                .isShowFriend(true)
+                .isPublicRecord(true)
+                .pictureName("user/profile/default_profile.png")
+                .picturePath("https://dnd-ground-bucket.s3.ap-northeast-2.amazonaws.com/user/profile/default_profile.png")
+                .build());
+    }
+
+    // 공통 칸 1개 + 기록마다 다른 칸 2개
+    private EndRequestDto createRequest(String nickname, int index, int stepCount) {
+        ArrayList<ArrayList<Double>> matrices = new ArrayList<>();
+        matrices.add(new ArrayList<>(List.of(37.331558, -122.030216)));
+        matrices.add(new ArrayList<>(List.of(37.331558 + (index + 1) * STEP, -122.030216)));
+        matrices.add(new ArrayList<>(List.of(37.331558 + (index + 1) * STEP, -122.030216 + STEP)));
+
+        EndRequestDto endRequestDto = new EndRequestDto();
+        endRequestDto.setNickname(nickname);
+        endRequestDto.setDistance(0);
+        endRequestDto.setStepCount(stepCount);
+        endRequestDto.setExerciseTime(60);
+        endRequestDto.setMessage("exercise-record-test");
+        endRequestDto.setStarted(LocalDateTime.now());
+        endRequestDto.setEnded(LocalDateTime.now());
+        endRequestDto.setMatrices(matrices);
+        return endRequestDto;
+    }
+
+    @Test
+    void 처음_기록하는_주에_동시에_기록_끝() throws Exception {
+        //given: 이번주 주간 집계가 없는 회원
+        int week = WeekUtil.thisWeek();
+        assertThat(userWeekSummaryRepository.findByUserIdAndWeek(user.getId(), week)).isEmpty();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        //when: 같은 회원의 기록 끝 동시 요청
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            EndRequestDto request = createRequest(NICKNAME, i, 100);
+            futures.add(executor.submit(() -> {
+                ready.countDown();
+                start.await();
+                return exerciseRecordService.recordEnd(request);
+            }));
+        }
+        ready.await();
+        start.countDown();
+
+        //then: deadlock 없이 모두 저장 (예외가 있으면 get()에서 전달)
+        for (Future<?> future : futures) future.get();
+        executor.shutdown();
+
+        //영역 수 = 공통 칸 1 + 기록마다 2, 칸 수 = 기록마다 3
+        UserWeekSummary summary = userWeekSummaryRepository.findByUserIdAndWeek(user.getId(), week).orElseThrow();
+        assertThat(summary.getAreaCount()).isEqualTo(1 + 2 * THREADS);
+        assertThat(summary.getMatrixCount()).isEqualTo(3 * THREADS);
+        assertThat(userWeekCellRepository.findCellKeys(user.getId(), week)).hasSize(1 + 2 * THREADS);
+    }
+
+    @Test
+    void 칸이_없는_기록_끝은_거부() {
+        //given: 칸 리스트가 비어 있거나 없는 요청
+        EndRequestDto empty = createRequest(NICKNAME, 0, 100);
+        empty.setMatrices(new ArrayList<>());
+        EndRequestDto missing = createRequest(NICKNAME, 0, 100);
+        missing.setMatrices(null);
+
+        //when, then: 400 에러, 주간 집계와 기록은 저장되지 않음
+        for (EndRequestDto request : List.of(empty, missing)) {
+            assertThatThrownBy(() -> exerciseRecordService.recordEnd(request))
+                    .isInstanceOf(CNotValidationException.class)
+                    .extracting("errorCode").isEqualTo(CommonErrorCode.EMPTY_MATRIX);
+        }
+        assertThat(userWeekSummaryRepository.findByUserIdAndWeek(user.getId(), WeekUtil.thisWeek())).isEmpty();
+        assertThat(exerciseRecordRepository.findLastRecord(user)).isEmpty();
+    }
+
+    // [랭크:닉네임:걸음 수]
+    private List<String> stepRanks(LocalDateTime start, LocalDateTime end) {
+        UserRequestDto.LookUp lookUp = new UserRequestDto.LookUp();
+        lookUp.setNickname(NICKNAME);
+        lookUp.setStart(start);
+        lookUp.setEnd(end);
+
+        List<String> ranks = new ArrayList<>();
+        RankResponseDto.Step step = exerciseRecordService.stepRanking(lookUp);
+        for (UserResponseDto.Ranking ranking : step.getStepRankings()) {
+            ranks.add(ranking.getRank() + ":" + ranking.getNickname() + ":" + ranking.getScore());
+        }
+        return ranks;
+    }
+
+    @Test
+    void 이번주_걸음_수_랭킹은_메모리와_DB_결과가_같음() {
+        //given: 회원 A, B는 300(동점), C는 100 (A는 기록 2번)
+        exerciseRecordService.recordEnd(createRequest(NICKNAME, 0, 200));
+        exerciseRecordService.recordEnd(createRequest(NICKNAME, 1, 100));
+        exerciseRecordService.recordEnd(createRequest(FRIENDS.get(0), 0, 300));
+        exerciseRecordService.recordEnd(createRequest(FRIENDS.get(1), 0, 100));
+        assertThat(leaderboardService.isReady()).isTrue();
+
+        //when
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime startOfWeek = WeekUtil.startOfWeek(now);
+        List<String> memory = stepRanks(startOfWeek, now);
+        List<String> database = stepRanks(startOfWeek.plusSeconds(1), now);
+
+        //then: 동점은 같은 랭크, 다음 랭크는 건너뜀
+        assertThat(memory).containsExactlyInAnyOrder("1:erTestA:300", "1:erTestB:300", "3:erTestC:100");
+        assertThat(database).containsExactlyInAnyOrderElementsOf(memory);
+        assertThat(leaderboardService.verify()).isZero();
+    }
+}
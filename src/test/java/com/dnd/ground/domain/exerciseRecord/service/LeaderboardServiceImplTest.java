@@ -0,0 +1,157 @@
+package com.dnd.ground.domain.exerciseRecord.service;
+
+import com.dnd.ground.domain.exerciseRecord.Repository.ExerciseRecordRepository;
+import com.dnd.ground.domain.exerciseRecord.event.RecordEndEvent;
+import com.dnd.ground.domain.matrix.matrixRepository.UserWeekSummaryRepository;
+import com.dnd.ground.domain.user.User;
+import com.dnd.ground.domain.user.dto.UserResponseDto;
+import com.dnd.ground.global.util.WeekUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.persistence.Tuple;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * @note 1. DB 조회는 mock으로 대체, 다시 불러오는 도중의 기록 끝은 mock 조회 안에서 이벤트 발생
+ */
+
+class LeaderboardServiceImplTest {
+
+    ExerciseRecordRepository exerciseRecordRepository;
+    UserWeekSummaryRepository userWeekSummaryRepository;
+    LeaderboardServiceImpl leaderboardService;
+
+    List<User> users = new ArrayList<>();
+    int week;
+
+    @BeforeEach
+    void setUp() {
+        exerciseRecordRepository = mock(ExerciseRecordRepository.class);
+        userWeekSummaryRepository = mock(UserWeekSummaryRepository.class);
+        leaderboardService = new LeaderboardServiceImpl(exerciseRecordRepository, userWeekSummaryRepository);
+        week = WeekUtil.thisWeek();
+
+        for (long id = 1; id <= 4; id++) {
+            users.add(User.builder().id(id).nickname("nick" + id).picturePath("path" + id).build());
+        }
+
+        //DB: 이번주 걸음 수 1 = 2 = 300, 3 = 100, 4 = 기록 없음 (Tuple mock은 stub 밖에서 미리 생성)
+        List<Tuple> stepCounts = List.of(tuple(1L, 300L), tuple(2L, 300L), tuple(3L, 100L));
+        List<Tuple> weekCounts = List.of(tuple(1L, 5L, 10L), tuple(2L, 7L, 7L), tuple(3L, 7L, 20L));
+        List<Tuple> matrixCounts = List.of(tuple(1L, 10L), tuple(2L, 7L), tuple(3L, 20L));
+        when(exerciseRecordRepository.findAllStepCount(any(), any())).thenReturn(stepCounts);
+        when(userWeekSummaryRepository.findAllCountsByWeek(anyInt())).thenReturn(weekCounts);
+        when(userWeekSummaryRepository.findAllMatrixCount()).thenReturn(matrixCounts);
+        when(exerciseRecordRepository.findIdsIn(anyCollection())).thenReturn(List.of());
+    }
+
+    private Tuple tuple(Object... values) {
+        Tuple tuple = mock(Tuple.class);
+        for (int i = 0; i < values.length; i++) {
+            when(tuple.get(i)).thenReturn(values[i]);
+        }
+        return tuple;
+    }
+
+    // 닉네임 -> 순위, 점수 ("nick1:1:300")
+    private List<String> ranks(LeaderboardService.Type type) {
+        List<String> ranks = new ArrayList<>();
+        for (UserResponseDto.Ranking ranking : leaderboardService.getRankings(users, type)) {
+            ranks.add(ranking.getNickname() + ":" + ranking.getRank() + ":" + ranking.getScore());
+        }
+        return ranks;
+    }
+
+    @Test
+    void 동점은_같은_순위_다음_순위는_건너뜀() {
+        //when
+        leaderboardService.rebuild();
+
+        //then
+        assertThat(leaderboardService.isReady()).isTrue();
+        assertThat(ranks(LeaderboardService.Type.WEEK_STEP))
+                .containsExactlyInAnyOrder("nick1:1:300", "nick2:1:300", "nick3:3:100", "nick4:4:0");
+        assertThat(ranks(LeaderboardService.Type.WEEK_AREA))
+                .containsExactlyInAnyOrder("nick2:1:7", "nick3:1:7", "nick1:3:5", "nick4:4:0");
+        assertThat(ranks(LeaderboardService.Type.ALL_MATRIX))
+                .containsExactly("nick3:1:20", "nick1:2:10", "nick2:3:7", "nick4:4:0");
+    }
+
+    @Test
+    void 기록_끝_후_점수_갱신() {
+        //given
+        leaderboardService.rebuild();
+
+        //when: 4번 회원 첫 기록
+        leaderboardService.onRecordEnd(new RecordEndEvent(100L, 4L, week, 400, 3, 3L));
+
+        //then
+        assertThat(ranks(LeaderboardService.Type.WEEK_STEP)).startsWith("nick4:1:400");
+        assertThat(leaderboardService.getRankings(users.subList(3, 4), LeaderboardService.Type.ALL_MATRIX).get(0).getScore()).isEqualTo(3L);
+    }
+
+    @Test
+    void 다시_불러오는_중_커밋된_기록은_반영() {
+        //given: 불러오는 도중 1번 회원의 기록 끝 (불러온 스냅샷에는 없는 기록)
+        leaderboardService.rebuild();
+        List<Tuple> snapshot = List.of(tuple(1L, 300L), tuple(2L, 300L), tuple(3L, 100L));
+        when(exerciseRecordRepository.findAllStepCount(any(), any())).thenAnswer(invocation -> {
+            leaderboardService.onRecordEnd(new RecordEndEvent(100L, 1L, week, 50, 2, 6L));
+            return snapshot;
+        });
+
+        //when
+        leaderboardService.rebuild();
+
+        //then
+        assertThat(ranks(LeaderboardService.Type.WEEK_STEP)).startsWith("nick1:1:350");
+        assertThat(ranks(LeaderboardService.Type.ALL_MATRIX)).contains("nick1:2:12");
+    }
+
+    @Test
+    void 다시_불러오는_중_이벤트가_온_기록이_스냅샷에_있으면_중복_반영하지_않음() {
+        //given: 불러오기 직전 커밋된 기록의 이벤트가 불러오는 도중 도착 (스냅샷에 이미 포함)
+        leaderboardService.rebuild();
+        List<Tuple> snapshot = List.of(tuple(1L, 350L), tuple(2L, 300L), tuple(3L, 100L));
+        when(exerciseRecordRepository.findAllStepCount(any(), any())).thenAnswer(invocation -> {
+            leaderboardService.onRecordEnd(new RecordEndEvent(100L, 1L, week, 50, 2, 6L));
+            return snapshot;
+        });
+        List<Tuple> matrixCounts = List.of(tuple(1L, 12L), tuple(2L, 7L), tuple(3L, 20L));
+        when(userWeekSummaryRepository.findAllMatrixCount()).thenReturn(matrixCounts);
+        when(exerciseRecordRepository.findIdsIn(anyCollection())).thenReturn(List.of(100L));
+
+        //when
+        leaderboardService.rebuild();
+
+        //then
+        assertThat(ranks(LeaderboardService.Type.WEEK_STEP)).startsWith("nick1:1:350");
+        assertThat(ranks(LeaderboardService.Type.ALL_MATRIX)).contains("nick1:2:12");
+    }
+
+    @Test
+    void 검증_시_DB와_다르면_교체() {
+        //given
+        leaderboardService.rebuild();
+
+        //when: 메모리와 DB가 같으면 0, 다른 서버의 기록(DB에만 있음)이 있으면 교체
+        int same = leaderboardService.verify();
+        List<Tuple> stepCounts = List.of(tuple(1L, 300L), tuple(2L, 300L), tuple(3L, 500L));
+        when(exerciseRecordRepository.findAllStepCount(any(), any())).thenReturn(stepCounts);
+        int changed = leaderboardService.verify();
+
+        //then
+        assertThat(same).isZero();
+        assertThat(changed).isEqualTo(1);
+        assertThat(ranks(LeaderboardService.Type.WEEK_STEP)).startsWith("nick3:1:500");
+    }
+}
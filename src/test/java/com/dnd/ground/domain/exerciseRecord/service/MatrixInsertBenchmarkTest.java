@@ -0,0 +1,152 @@
+package com.dnd.ground.domain.exerciseRecord.service;
+
+import com.dnd.ground.domain.exerciseRecord.ExerciseRecord;
+import com.dnd.ground.domain.exerciseRecord.dto.EndRequestDto;
+import com.dnd.ground.domain.matrix.Matrix;
+import com.dnd.ground.domain.user.User;
+import com.dnd.ground.domain.user.repository.UserRepository;
+import com.dnd.ground.global.dummy.DummyService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @description 운동 기록 종료 시 칸 저장 성능 측정
+ *              1. 칸 하나씩 insert + flush (기존 방식)
+ *              2. recordEnd (matrix_seq + JDBC batch insert)
+ * @since   2026-10-18
+ * @updated 1. 측정용 회원을 따로 생성하고, 끝나면 회원과 함께 파생 데이터 삭제
+ *          2. 측정 결과 기록
+ *          - 2026-10-18
+ * @note 1. ./gradlew benchmark 로 실행 (기본 test 태스크에서는 제외)
+ *       2. 실행 후 측정용 회원의 기록, 칸, 주간 영역 집계, 챌린지 점수를 삭제하고 리더보드를 다시 생성
+ *       3. 측정 결과 (2026-10-18, 로컬 MariaDB 10.11 / InnoDB, 3600칸, 3회 실행의 초당 칸 수)
+ *          - 칸 하나씩 저장: 262 ~ 321
+ *          - recordEnd, rewriteBatchedStatements=true: 3575 ~ 4272
+ *          - recordEnd, rewriteBatchedStatements=false: 2278 ~ 2586
+ *          - loopback 연결이라 왕복 시간이 거의 없음 (원격 DB에서는 칸 하나씩 저장이 더 느려짐)
+ *          - recordEnd 시간에는 칸 저장 외에 주간 영역 집계, 챌린지 점수 갱신도 포함
+ */
+
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest
+class MatrixInsertBenchmarkTest {
+
+    @Autowired ExerciseRecordService exerciseRecordService;
+    @Autowired LeaderboardService leaderboardService;
+    @Autowired DummyService dummyService;
+    @Autowired UserRepository userRepository;
+    @Autowired EntityManager em;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    private static final String NICKNAME = "benchA";
+    private static final String MESSAGE = "matrix-insert-benchmark";
+    private static final int CELL_COUNT = 3600;  // 1시간 동안 1초에 한 칸
+    private static final double STEP = 0.000374;  // 클라이언트 칸 간격
+
+    @BeforeEach
+    void setUp() {
+        userRepository.save(User.builder()
+                .nickname(NICKNAME)
+                .created(LocalDateTime.now())
+                .isShowMine(true)
+                .isShowFriend(true)
+                .isPublicRecord(true)
+                .pictureName("user/profile/default_profile.png")
+                .picturePath("https://dnd-ground-bucket.s3.ap-northeast-2.amazonaws.com/user/profile/default_profile.png")
+                .build());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        //기록, 칸, user_week_cell, user_week_summary, challenge_score 삭제 후 메모리 랭킹을 DB 기준으로 다시 생성
+        dummyService.deleteDummyUser(NICKNAME);
+        leaderboardService.rebuild();
+    }
+
+    @Test
+    void 칸_하나씩_저장() {
+        //given
+        ArrayList<ArrayList<Double>> matrices = createMatrices();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        //when
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = userRepository.findByNickname(NICKNAME).orElseThrow();
+            ExerciseRecord exerciseRecord = new ExerciseRecord(user);
+            exerciseRecord.updateInfo(0, 0, CELL_COUNT, MESSAGE, LocalDateTime.now(), LocalDateTime.now());
+            em.persist(exerciseRecord);
+
+            for (ArrayList<Double> matrix : matrices) {
+                Matrix cell = new Matrix(matrix.get(0), matrix.get(1));
+                cell.belongRecord(exerciseRecord);
+                em.persist(cell);
+                em.flush();
+            }
+        });
+        long elapsed = System.nanoTime() - start;
+
+        //then
+        report("칸 하나씩 저장", elapsed);
+        assertThat(countCells()).isEqualTo(CELL_COUNT);
+    }
+
+    @Test
+    void recordEnd_배치_저장() {
+        //given
+        EndRequestDto endRequestDto = new EndRequestDto();
+        endRequestDto.setNickname(NICKNAME);
+        endRequestDto.setDistance(0);
+        endRequestDto.setStepCount(0);
+        endRequestDto.setExerciseTime(CELL_COUNT);
+        endRequestDto.setMessage(MESSAGE);
+        endRequestDto.setStarted(LocalDateTime.now());
+        endRequestDto.setEnded(LocalDateTime.now());
+        endRequestDto.setMatrices(createMatrices());
+
+        //when
+        long start = System.nanoTime();
+        exerciseRecordService.recordEnd(endRequestDto);
+        long elapsed = System.nanoTime() - start;
+
+        //then
+        report("recordEnd 배치 저장", elapsed);
+        assertThat(countCells()).isEqualTo(CELL_COUNT);
+    }
+
+    // 서로 다른 클라이언트 칸 생성 (60 x 60)
+    private ArrayList<ArrayList<Double>> createMatrices() {
+        ArrayList<ArrayList<Double>> matrices = new ArrayList<>();
+        for (int i = 0; i < CELL_COUNT; i++) {
+            matrices.add(new ArrayList<>(List.of(99817 * STEP + (i / 60) * STEP, -326284 * STEP + (i % 60) * STEP)));
+        }
+        return matrices;
+    }
+
+    private long countCells() {
+        return em.createQuery("select count(m) from Matrix m where m.exerciseRecord.message = :message", Long.class)
+                .setParameter("message", MESSAGE)
+                .getSingleResult();
+    }
+
+    private void report(String name, long elapsedNanos) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        log.info("**칸 저장 성능** [{}] 칸 수:{} | 시간:{}초 | 초당 칸 수:{}",
+                name, CELL_COUNT, String.format("%.3f", seconds), String.format("%.1f", CELL_COUNT / seconds));
+    }
+}
@@ -15,14 +15,12 @@ class FriendTest {
     public void 친구() {
 
         User userA = User.builder()
-                .username("nameA")
                 .nickname("nickA")
                 .friends(new ArrayList<>())
                 .challenges(new ArrayList<>())
                 .build();
 
         User userC = User.builder()
-                .username("nameC")
                 .nickname("nickC")
                 .friends(new ArrayList<>())
                 .challenges(new ArrayList<>())
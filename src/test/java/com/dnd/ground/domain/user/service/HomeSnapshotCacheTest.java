@@ -0,0 +1,103 @@
+package com.dnd.ground.domain.user.service;
+
+import com.dnd.ground.domain.user.dto.HomeResponseDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HomeSnapshotCacheTest {
+
+    private static final int WEEK = 202642;
+
+    HomeSnapshotCache homeSnapshotCache = new HomeSnapshotCache(100, 600);
+
+    private HomeResponseDto home() {
+        return HomeResponseDto.builder().build();
+    }
+
+    @Test
+    void 무효화된_회원이_보이는_메인화면만_제거() {
+        //given: A(회원 1, 2), B(회원 2, 3), C(회원 4)
+        homeSnapshotCache.put("A", WEEK, Set.of(1L, 2L), home(), homeSnapshotCache.stamp());
+        homeSnapshotCache.put("B", WEEK, Set.of(2L, 3L), home(), homeSnapshotCache.stamp());
+        homeSnapshotCache.put("C", WEEK, Set.of(4L), home(), homeSnapshotCache.stamp());
+
+        //when
+        homeSnapshotCache.invalidate(List.of(2L));
+
+        //then
+        assertThat(homeSnapshotCache.get("A", WEEK)).isNull();
+        assertThat(homeSnapshotCache.get("B", WEEK)).isNull();
+        assertThat(homeSnapshotCache.get("C", WEEK)).isNotNull();
+    }
+
+    @Test
+    void 조회_중_보이는_회원이_무효화되면_저장하지_않음() {
+        //given
+        long stamp = homeSnapshotCache.stamp();
+
+        //when: 조회 중 회원 2 무효화
+        homeSnapshotCache.invalidate(List.of(2L));
+        homeSnapshotCache.put("A", WEEK, Set.of(1L, 2L), home(), stamp);
+
+        //then
+        assertThat(homeSnapshotCache.get("A", WEEK)).isNull();
+    }
+
+    @Test
+    void 조회_중_다른_회원의_무효화는_저장에_영향_없음() {
+        //given
+        long stamp = homeSnapshotCache.stamp();
+
+        //when: 조회 중 메인화면에 보이지 않는 회원 9 무효화
+        homeSnapshotCache.invalidate(List.of(9L));
+        homeSnapshotCache.put("A", WEEK, Set.of(1L, 2L), home(), stamp);
+
+        //then
+        assertThat(homeSnapshotCache.get("A", WEEK)).isNotNull();
+    }
+
+    @Test
+    void 교체된_메인화면은_새로_보이는_회원으로_무효화() {
+        //given: A가 회원 2 -> 회원 3을 보도록 바뀜
+        homeSnapshotCache.put("A", WEEK, Set.of(1L, 2L), home(), homeSnapshotCache.stamp());
+        HomeResponseDto replaced = home();
+        homeSnapshotCache.put("A", WEEK, Set.of(1L, 3L), replaced, homeSnapshotCache.stamp());
+
+        //when, then: 더 이상 보이지 않는 회원의 무효화로는 제거되지 않음
+        homeSnapshotCache.invalidate(List.of(2L));
+        assertThat(homeSnapshotCache.get("A", WEEK)).isSameAs(replaced);
+
+        homeSnapshotCache.invalidate(List.of(3L));
+        assertThat(homeSnapshotCache.get("A", WEEK)).isNull();
+    }
+
+    @Test
+    void 다른_주의_메인화면은_조회되지_않음() {
+        homeSnapshotCache.put("A", WEEK, Set.of(1L), home(), homeSnapshotCache.stamp());
+
+        assertThat(homeSnapshotCache.get("A", WEEK + 1)).isNull();
+    }
+
+    @Test
+    void 무효화_시점이_크기_제한으로_제거되면_그_전에_시작한_조회는_저장하지_않음() {
+        //given: 크기 2, 조회 중 회원 1, 2, 3 무효화 -> 무효화 시점 하나 제거
+        HomeSnapshotCache small = new HomeSnapshotCache(2, 600);
+        long stamp = small.stamp();
+        for (long userId = 1; userId <= 3; userId++) {
+            small.invalidate(List.of(userId));
+        }
+
+        //when: 제거 전에 시작한 조회, 제거 후에 시작한 조회
+        small.put("A", WEEK, Set.of(9L), home(), stamp);
+        HomeResponseDto afterEviction = home();
+        small.put("B", WEEK, Set.of(9L), afterEviction, small.stamp());
+
+        //then
+        assertThat(small.get("A", WEEK)).isNull();
+        assertThat(small.get("B", WEEK)).isSameAs(afterEviction);
+    }
+}
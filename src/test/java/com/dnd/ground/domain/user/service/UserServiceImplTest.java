@@ -0,0 +1,259 @@
+package com.dnd.ground.domain.user.service;
+
+import com.dnd.ground.domain.exerciseRecord.dto.EndRequestDto;
+import com.dnd.ground.domain.exerciseRecord.service.ExerciseRecordService;
+import com.dnd.ground.domain.exerciseRecord.service.LeaderboardService;
+import com.dnd.ground.domain.friend.Friend;
+import com.dnd.ground.domain.friend.FriendStatus;
+import com.dnd.ground.domain.friend.dto.FriendResponseDto;
+import com.dnd.ground.domain.friend.repository.FriendRepository;
+import com.dnd.ground.domain.matrix.dto.MatrixDto;
+import com.dnd.ground.domain.matrix.dto.MatrixRequestDto;
+import com.dnd.ground.domain.user.User;
+import com.dnd.ground.domain.user.dto.HomeDeltaResponseDto;
+import com.dnd.ground.domain.user.dto.HomeResponseDto;
+import com.dnd.ground.domain.user.dto.UserRequestDto;
+import com.dnd.ground.domain.user.dto.UserResponseDto;
+import com.dnd.ground.domain.user.repository.UserRepository;
+import com.dnd.ground.global.dummy.DummyService;
+import com.dnd.ground.global.util.MatrixUtil;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @note 1. 메인화면은 트랜잭션 밖, 여러 스레드에서 조회하므로 테스트 데이터는 커밋하고 끝나면 삭제
+ *       2. 조회 전 캐시를 비워서 캐시된 응답이 아닌 실제 조회를 측정
+ */
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class UserServiceImplTest {
+
+    @Autowired UserService userService;
+    @Autowired ExerciseRecordService exerciseRecordService;
+    @Autowired LeaderboardService leaderboardService;
+    @Autowired DummyService dummyService;
+    @Autowired UserRepository userRepository;
+    @Autowired FriendRepository friendRepository;
+    @Autowired HomeSnapshotCache homeSnapshotCache;
+    @Autowired EntityManagerFactory entityManagerFactory;
+
+    private static final String MANY = "usTestA";  // 친구 4명
+    private static final String FEW = "usTestB";   // 친구 1명
+    private static final List<String> FRIENDS = List.of("usTestF1", "usTestF2", "usTestF3", "usTestF4");
+    private static final double STEP = 0.000374;  // 클라이언트 칸 간격
+
+    Statistics statistics;
+    Map<String, User> users = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        List<String> nicknames = new ArrayList<>(List.of(MANY, FEW));
+        nicknames.addAll(FRIENDS);
+        for (String nickname : nicknames) {
+            users.put(nickname, createUser(nickname));
+        }
+
+        for (String friend : FRIENDS) {
+            friendRepository.save(new Friend(users.get(MANY), users.get(friend), FriendStatus.Accept));
+        }
+        friendRepository.save(new Friend(users.get(FEW), users.get(FRIENDS.get(0)), FriendStatus.Accept));
+
+        //모든 회원이 이번주에 서로 다른 칸 2개씩 기록
+        for (int i = 0; i < nicknames.size(); i++) {
+            recordEnd(nicknames.get(i), i * 10, 2);
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        for (String nickname : users.keySet()) {
+            dummyService.deleteDummyUser(nickname);
+        }
+        leaderboardService.rebuild();
+        clearCache();
+    }
+
+    private User createUser(String nickname) {
+        return userRepository.save(User.builder()
+                .nickname(nickname)
+                .created(LocalDateTime.now())
+                .isShowMine(true)
+                .isShowFriend(true)
+                .isPublicRecord(true)
+                .pictureName("user/profile/default_profile.png")
+                .picturePath("https://dnd-ground-bucket.s3.ap-northeast-2.amazonaws.com/user/profile/default_profile.png")
+                .build());
+    }
+
+    // 경도 방향으로 from 번째 칸부터 cellCount개의 칸을 지나는 기록 끝
+    private void recordEnd(String nickname, int from, int cellCount) {
+        ArrayList<ArrayList<Double>> matrices = new ArrayList<>();
+        for (int i = from; i < from + cellCount; i++) {
+            matrices.add(new ArrayList<>(List.of(37.331558, -122.030216 + i * STEP)));
+        }
+
+        EndRequestDto endRequestDto = new EndRequestDto();
+        endRequestDto.setNickname(nickname);
+        endRequestDto.setDistance(0);
+        endRequestDto.setStepCount(0);
+        endRequestDto.setExerciseTime(60);
+        endRequestDto.setMessage("user-service-test");
+        endRequestDto.setStarted(LocalDateTime.now());
+        endRequestDto.setEnded(LocalDateTime.now());
+        endRequestDto.setMatrices(matrices);
+        exerciseRecordService.recordEnd(endRequestDto);
+    }
+
+    private void clearCache() {
+        List<Long> userIds = new ArrayList<>();
+        users.values().forEach(user -> userIds.add(user.getId()));
+        homeSnapshotCache.invalidate(userIds);
+    }
+
+    private long countQueries(String nickname) {
+        clearCache();
+        statistics.clear();
+        HomeResponseDto home = userService.showHome(nickname);
+        assertThat(home.getUserMatrices().getNickname()).isEqualTo(nickname);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private UserResponseDto.FriendMatrix findFriend(HomeResponseDto home, String nickname) {
+        return home.getFriendMatrices().stream()
+                .filter(friend -> friend.getNickname().equals(nickname))
+                .findFirst().orElseThrow();
+    }
+
+    @Test
+    void 메인화면_조회_쿼리_수는_친구_수와_무관() {
+        //given: usTestA(친구 4명), usTestB(친구 1명), 챌린지 없음
+        //when
+        long manyFriends = countQueries(MANY);
+        long fewFriends = countQueries(FEW);
+
+        //then: 회원, 친구, 챌린지 UC, 섹션별 영역 조회(최대 3)
+        assertThat(manyFriends).isLessThanOrEqualTo(6);
+        assertThat(manyFriends).isEqualTo(fewFriends);
+    }
+
+    @Test
+    void 메인화면_캐시_조회는_쿼리_없음() {
+        //given
+        HomeResponseDto loaded = userService.showHome(MANY);
+
+        //when
+        statistics.clear();
+        HomeResponseDto cached = userService.showHome(MANY);
+
+        //then
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(cached).isSameAs(loaded);
+        assertThat(cached.getFriendMatrices()).hasSize(FRIENDS.size());
+    }
+
+    @Test
+    void 기록_끝_후_메인화면_캐시_무효화() {
+        //given
+        userService.showHome(MANY);
+
+        //when: 친구가 새 칸 기록 (커밋 후 친구가 보이는 메인화면 무효화)
+        recordEnd(FRIENDS.get(0), 100, 1);
+        HomeResponseDto home = userService.showHome(MANY);
+
+        //then
+        assertThat(findFriend(home, FRIENDS.get(0)).getMatrices()).hasSize(3);
+    }
+
+    @Test
+    void 메인화면_변경분_조회() {
+        //given: 전체 동기화
+        UserRequestDto.HomeDelta request = new UserRequestDto.HomeDelta();
+        request.setNickname(MANY);
+        HomeDeltaResponseDto full = userService.showHomeDelta(request);
+
+        assertThat(full.getFullSync()).isTrue();
+        assertThat(full.getHome().getFriendMatrices()).hasSize(FRIENDS.size());
+
+        //when: 친구 한 명이 새 칸 기록 후 변경분 조회
+        recordEnd(FRIENDS.get(0), 100, 1);
+
+        List<String> known = new ArrayList<>(FRIENDS);
+        known.add(MANY);
+        request.setVersion(full.getVersion());
+        request.setNicknames(known);
+        HomeDeltaResponseDto delta = userService.showHomeDelta(request);
+
+        //then: 새 칸 포함, 사라진 회원 없음
+        MatrixDto added = new MatrixDto(MatrixUtil.toCellKey(37.331558, -122.030216 + 100 * STEP));
+        assertThat(delta.getFullSync()).isFalse();
+        assertThat(delta.getVersion()).isGreaterThanOrEqualTo(full.getVersion());
+        assertThat(findFriend(delta.getHome(), FRIENDS.get(0)).getMatrices()).contains(added);
+        assertThat(delta.getRemovedNicknames()).isEmpty();
+
+        //when: 친구 보기 필터를 끄면 친구들은 사라진 회원
+        userService.changeFilterFriend(MANY);
+        request.setVersion(delta.getVersion());
+        HomeDeltaResponseDto hidden = userService.showHomeDelta(request);
+
+        //then
+        assertThat(hidden.getRemovedNicknames()).containsExactlyInAnyOrderElementsOf(FRIENDS);
+    }
+
+    @Test
+    void 기록_시작_화면은_메인화면_필터와_상관없이_영역_조회() {
+        //given: 나의 기록 보기, 친구 보기 끄기
+        userService.changeFilterMine(MANY);
+        userService.changeFilterFriend(MANY);
+
+        //when
+        HomeResponseDto home = userService.showHome(MANY);
+        HomeResponseDto recordStart = exerciseRecordService.recordStart(MANY, new MatrixRequestDto.Viewport());
+
+        //then: 메인화면은 숨겨진 영역을 조회하지 않고, 기록 시작 화면은 모든 영역과 필터 값 반환
+        assertThat(home.getUserMatrices().getMatrices()).isEmpty();
+        assertThat(findFriend(home, FRIENDS.get(0)).getMatrices()).isEmpty();
+
+        assertThat(recordStart.getUserMatrices().getMatrices()).hasSize(2);
+        assertThat(recordStart.getUserMatrices().getMatricesNumber()).isEqualTo(2L);
+        assertThat(findFriend(recordStart, FRIENDS.get(0)).getMatrices()).hasSize(2);
+        assertThat(recordStart.getIsShowMine()).isFalse();
+        assertThat(recordStart.getIsShowFriend()).isFalse();
+
+        //기록 시작 화면은 메인화면 캐시에 저장하지 않음
+        assertThat(userService.showHome(MANY)).isSameAs(home);
+    }
+
+    @Test
+    void 회원_프로필은_트랜잭션_없이_조회() {
+        //given: usTestB가 usTestF2에게 친구 요청
+        friendRepository.save(new Friend(users.get(FEW), users.get(FRIENDS.get(1)), FriendStatus.Wait));
+
+        //when: 트랜잭션 없이 조회 (누적 칸 수 랭킹만 자기 트랜잭션에서 조회)
+        FriendResponseDto.FriendProfile friend = userService.getUserProfile(MANY, FRIENDS.get(0));
+        FriendResponseDto.FriendProfile requested = userService.getUserProfile(FEW, FRIENDS.get(1));
+        FriendResponseDto.FriendProfile requesting = userService.getUserProfile(FRIENDS.get(1), FEW);
+
+        //then
+        assertThat(friend.getIsFriend()).isEqualTo(FriendStatus.Accept);
+        assertThat(friend.getAreas()).isEqualTo(2L);
+        assertThat(friend.getAllMatrixNumber()).isEqualTo(2L);
+        assertThat(requested.getIsFriend()).isEqualTo(FriendStatus.Requesting);
+        assertThat(requesting.getIsFriend()).isEqualTo(FriendStatus.ResponseWait);
+    }
+}
@@ -0,0 +1,105 @@
+package com.dnd.ground.global.config;
+
+import com.dnd.ground.domain.matrix.dto.MatrixDto;
+import com.dnd.ground.global.util.MatrixCodec;
+import com.dnd.ground.global.util.MatrixRectUtil;
+import com.dnd.ground.global.util.MatrixUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * @note 1. 기본 컨버터(문자열, JSON) 뒤에 WebConfig의 컨버터를 추가한 순서로 Accept 헤더별 응답 형식 확인
+ */
+
+class WebConfigTest {
+
+    private static final double STEP = 0.000374;  // 클라이언트 칸 간격
+
+    MockMvc mockMvc;
+
+    // 2x2 정사각형 칸
+    static final List<MatrixDto> MATRICES = List.of(
+            new MatrixDto(MatrixUtil.toCellKey(37.331558, -122.030216)),
+            new MatrixDto(MatrixUtil.toCellKey(37.331558, -122.030216 + STEP)),
+            new MatrixDto(MatrixUtil.toCellKey(37.331558 + STEP, -122.030216)),
+            new MatrixDto(MatrixUtil.toCellKey(37.331558 + STEP, -122.030216 + STEP)));
+
+    @RestController
+    static class MatrixController {
+        @GetMapping("/matrices")
+        public Matrices matrices() {
+            return new Matrices(MATRICES);
+        }
+    }
+
+    static class Matrices {
+        private final List<MatrixDto> matrices;
+
+        Matrices(List<MatrixDto> matrices) {
+            this.matrices = matrices;
+        }
+
+        public List<MatrixDto> getMatrices() {
+            return matrices;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<HttpMessageConverter<?>> converters = new ArrayList<>();
+        converters.add(new StringHttpMessageConverter());
+        converters.add(new MappingJackson2HttpMessageConverter(objectMapper));
+        new WebConfig(objectMapper).extendMessageConverters(converters);
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new MatrixController())
+                .setMessageConverters(converters.toArray(new HttpMessageConverter[0]))
+                .build();
+    }
+
+    @Test
+    void Accept_헤더가_없으면_기본_JSON() throws Exception {
+        mockMvc.perform(get("/matrices"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.matrices[0].latitude").value(37.331558))
+                .andExpect(jsonPath("$.matrices[0].longitude").value(-122.030216));
+    }
+
+    @Test
+    void 압축_형식_요청() throws Exception {
+        mockMvc.perform(get("/matrices").accept(MatrixCodec.COMPACT_MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MatrixCodec.COMPACT_MEDIA_TYPE))
+                .andExpect(jsonPath("$.matrices").value(MatrixCodec.encode(MATRICES)));
+    }
+
+    @Test
+    void 직사각형_형식_요청() throws Exception {
+        mockMvc.perform(get("/matrices").accept(MatrixRectUtil.RECTANGLE_MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MatrixRectUtil.RECTANGLE_MEDIA_TYPE))
+                .andExpect(jsonPath("$.matrices.length()").value(1))
+                .andExpect(jsonPath("$.matrices[0][0]").value(37.331558))
+                .andExpect(jsonPath("$.matrices[0][1]").value(-122.030216))
+                .andExpect(jsonPath("$.matrices[0][2]").value(MATRICES.get(3).getLatitude()))
+                .andExpect(jsonPath("$.matrices[0][3]").value(MATRICES.get(3).getLongitude()));
+    }
+}
@@ -0,0 +1,78 @@
+package com.dnd.ground.global.util;
+
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BitmapUtilTest {
+
+    private static final double STEP = 0.000374;  // 클라이언트 칸 간격
+
+    // 비트맵 -> byte[] -> 비트맵
+    private Roaring64NavigableMap roundTrip(Roaring64NavigableMap bitmap) {
+        return BitmapUtil.deserialize(BitmapUtil.serialize(bitmap));
+    }
+
+    private List<Long> toList(Roaring64NavigableMap bitmap) {
+        List<Long> cellKeys = new ArrayList<>();
+        bitmap.forEach(cellKeys::add);
+        return cellKeys;
+    }
+
+    @Test
+    void 빈_비트맵() {
+        Roaring64NavigableMap restored = roundTrip(new Roaring64NavigableMap());
+
+        assertThat(restored.isEmpty()).isTrue();
+        assertThat(BitmapUtil.deserialize(null).isEmpty()).isTrue();
+        assertThat(BitmapUtil.deserialize(new byte[0]).isEmpty()).isTrue();
+    }
+
+    @Test
+    void 여러_줄에_걸친_칸() {
+        //given: 위도가 다른 줄(상위 32비트)과 같은 줄의 칸, 남반구/서반구 칸
+        List<Long> cellKeys = List.of(
+                MatrixUtil.toCellKey(37.331558, -122.030216),
+                MatrixUtil.toCellKey(37.331558, -122.030216 + STEP),
+                MatrixUtil.toCellKey(37.331558 + STEP, -122.030216),
+                MatrixUtil.toCellKey(-33.868820, 151.209296),
+                MatrixUtil.toCellKey(-90, -180),
+                MatrixUtil.toCellKey(90, 180));
+
+        //when
+        Roaring64NavigableMap restored = roundTrip(BitmapUtil.of(cellKeys));
+
+        //then
+        assertThat(toList(restored)).containsExactlyInAnyOrderElementsOf(cellKeys);
+    }
+
+    @Test
+    void 연속된_칸은_run_압축() {
+        //given: 한 줄에 연속된 경도 인덱스 10000칸
+        Roaring64NavigableMap bitmap = new Roaring64NavigableMap();
+        long first = MatrixUtil.toCellKey(37.5, 127.0);
+        for (long i = 0; i < 10_000; i++) bitmap.addLong(first + i);
+
+        //when
+        byte[] bytes = BitmapUtil.serialize(bitmap);
+        Roaring64NavigableMap restored = BitmapUtil.deserialize(bytes);
+
+        //then: 칸당 8바이트보다 훨씬 작게 저장, 내용은 같음
+        assertThat(bytes.length).isLessThan(100);
+        assertThat(restored.getLongCardinality()).isEqualTo(10_000);
+        assertThat(toList(restored)).isEqualTo(toList(bitmap));
+    }
+
+    @Test
+    void 중복_칸은_하나로() {
+        long cellKey = MatrixUtil.toCellKey(37.331558, -122.030216);
+
+        Roaring64NavigableMap restored = roundTrip(BitmapUtil.of(List.of(cellKey, cellKey, cellKey)));
+
+        assertThat(toList(restored)).containsExactly(cellKey);
+    }
+}
@@ -0,0 +1,61 @@
+package com.dnd.ground.global.util;
+
+import com.dnd.ground.domain.matrix.dto.MatrixDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MatrixCodecTest {
+
+    private static final double STEP = 0.000374;  // 클라이언트 칸 간격
+
+    // 격자에 맞춰진 칸 (디코딩 결과와 비교)
+    private MatrixDto cell(double latitude, double longitude) {
+        return new MatrixDto(MatrixUtil.toCellKey(latitude, longitude));
+    }
+
+    @Test
+    void 빈_리스트() {
+        String encoded = MatrixCodec.encode(List.of());
+
+        assertThat(MatrixCodec.decode(encoded)).isEmpty();
+    }
+
+    @Test
+    void 인코딩_후_디코딩하면_같은_칸_같은_순서() {
+        //given: 위도, 경도가 감소하는 칸(음수 차이)과 중복 칸 포함
+        List<MatrixDto> matrices = new ArrayList<>();
+        matrices.add(cell(37.331558, -122.030216));
+        matrices.add(cell(37.331558 - STEP, -122.030216 - STEP));
+        matrices.add(cell(37.331558 + 3 * STEP, -122.030216 - 5 * STEP));
+        matrices.add(cell(37.331558, -122.030216));
+        matrices.add(cell(-33.868820, 151.209296));
+        matrices.add(cell(-90, -180));
+        matrices.add(cell(90, 180));
+
+        //when
+        List<MatrixDto> decoded = MatrixCodec.decode(MatrixCodec.encode(matrices));
+
+        //then
+        assertThat(decoded).containsExactlyElementsOf(matrices);
+    }
+
+    @Test
+    void 인접한_칸은_칸당_몇_바이트로_인코딩() {
+        //given: 한 줄로 이어진 칸 100개
+        List<MatrixDto> matrices = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            matrices.add(cell(37.331558, -122.030216 + i * STEP));
+        }
+
+        //when
+        String encoded = MatrixCodec.encode(matrices);
+
+        //then: 첫 칸 이후 칸당 위도 차이 1바이트 + 경도 차이 2바이트 (base64로 4/3배)
+        assertThat(encoded.length()).isLessThan(100 * 3 * 4 / 3 + 32);
+        assertThat(MatrixCodec.decode(encoded)).containsExactlyElementsOf(matrices);
+    }
+}
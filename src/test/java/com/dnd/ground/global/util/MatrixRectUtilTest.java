@@ -0,0 +1,159 @@
+package com.dnd.ground.global.util;
+
+import com.dnd.ground.domain.matrix.dto.MatrixDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @note 1. 직사각형은 클라이언트 격자(기준점 + 행, 열 * 칸 간격)의 칸들로 펼쳐서 입력 칸과 비교
+ */
+
+class MatrixRectUtilTest {
+
+    private static final double STEP = 0.000374;  // 클라이언트 칸 간격
+    private static final double UNEVEN_STEP = 0.0003745;  // 인덱스 간격이 374, 375로 번갈아 나오는 칸 간격
+    private static final double LATITUDE = 37.331558;
+    private static final double LONGITUDE = -122.030216;
+    private static final int GRID = 12;  // 펼칠 때 확인하는 격자 크기 (행, 열)
+
+    // 격자의 (행, 열) 칸
+    private MatrixDto cell(double step, int row, int col) {
+        return new MatrixDto(LATITUDE + row * step, LONGITUDE + col * step);
+    }
+
+    // "행,열" 모양 문자열 -> 칸 리스트 (예: "0,0 0,1 1,0")
+    private List<MatrixDto> cells(double step, String shape) {
+        List<MatrixDto> matrices = new ArrayList<>();
+        for (String point : shape.split(" ")) {
+            String[] rowCol = point.split(",");
+            matrices.add(cell(step, Integer.parseInt(rowCol[0]), Integer.parseInt(rowCol[1])));
+        }
+        return matrices;
+    }
+
+    // 직사각형 -> 안에 들어가는 격자 칸의 키 (여러 직사각형에 들어가는 칸이 없어야 함)
+    private Set<Long> expand(List<double[]> rects, double step) {
+        Set<Long> cellKeys = new HashSet<>();
+        for (int row = -1; row <= GRID; row++) {
+            for (int col = -1; col <= GRID; col++) {
+                MatrixDto matrix = cell(step, row, col);
+                int count = 0;
+                for (double[] rect : rects) {
+                    if (contains(rect, matrix)) count++;
+                }
+                assertThat(count).as("겹치는 직사각형 (%d, %d)", row, col).isLessThanOrEqualTo(1);
+                if (count == 1) cellKeys.add(MatrixUtil.toCellKey(matrix.getLatitude(), matrix.getLongitude()));
+            }
+        }
+        return cellKeys;
+    }
+
+    // 직사각형 안의 칸인지 (격자 오차 1e-6도 허용)
+    private boolean contains(double[] rect, MatrixDto matrix) {
+        double error = 1.5 / MatrixUtil.RESOLUTION;
+        return matrix.getLatitude() >= rect[0] - error && matrix.getLatitude() <= rect[2] + error
+                && matrix.getLongitude() >= rect[1] - error && matrix.getLongitude() <= rect[3] + error;
+    }
+
+    private Set<Long> toCellKeys(List<MatrixDto> matrices) {
+        Set<Long> cellKeys = new HashSet<>();
+        matrices.forEach(matrix -> cellKeys.add(MatrixUtil.toCellKey(matrix.getLatitude(), matrix.getLongitude())));
+        return cellKeys;
+    }
+
+    @Test
+    void 빈_리스트() {
+        assertThat(MatrixRectUtil.merge(List.of())).isEmpty();
+    }
+
+    @Test
+    void 칸_하나() {
+        //given
+        List<MatrixDto> matrices = cells(STEP, "3,4");
+
+        //when
+        List<double[]> rects = MatrixRectUtil.merge(matrices);
+
+        //then: 최소 = 최대인 직사각형 하나
+        assertThat(rects).hasSize(1);
+        assertThat(rects.get(0)[0]).isEqualTo(rects.get(0)[2]);
+        assertThat(rects.get(0)[1]).isEqualTo(rects.get(0)[3]);
+        assertThat(expand(rects, STEP)).isEqualTo(toCellKeys(matrices));
+    }
+
+    @Test
+    void 꽉_찬_직사각형은_하나로_합침() {
+        //given: 3행 4열 (중복 칸 포함)
+        List<MatrixDto> matrices = cells(STEP, "0,0 0,1 0,2 0,3 1,0 1,1 1,2 1,3 2,0 2,1 2,2 2,3 1,1");
+
+        //when
+        List<double[]> rects = MatrixRectUtil.merge(matrices);
+
+        //then
+        assertThat(rects).hasSize(1);
+        assertThat(expand(rects, STEP)).isEqualTo(toCellKeys(matrices));
+    }
+
+    @Test
+    void L자_모양() {
+        //given
+        List<MatrixDto> matrices = cells(STEP, "0,0 1,0 2,0 2,1 2,2");
+
+        //when
+        List<double[]> rects = MatrixRectUtil.merge(matrices);
+
+        //then
+        assertThat(rects).hasSize(2);
+        assertThat(expand(rects, STEP)).isEqualTo(toCellKeys(matrices));
+    }
+
+    @Test
+    void 중간이_빈_줄() {
+        //given: 줄 안의 빈 칸, 빈 줄(2행), 줄마다 다른 구간
+        List<MatrixDto> matrices = cells(STEP, "0,0 0,1 0,3 0,4 1,0 1,1 1,2 1,3 1,4 3,0 3,1 3,4 4,2");
+
+        //when
+        List<double[]> rects = MatrixRectUtil.merge(matrices);
+
+        //then
+        assertThat(expand(rects, STEP)).isEqualTo(toCellKeys(matrices));
+    }
+
+    @Test
+    void 붙어_있는_칸이_없으면_합치지_않음() {
+        //given: 모든 칸이 한 칸씩 떨어져 있음 (최소 간격 = 칸 간격 2배)
+        List<MatrixDto> matrices = cells(STEP, "0,0 0,2 2,0 2,2 4,4");
+
+        //when
+        List<double[]> rects = MatrixRectUtil.merge(matrices);
+
+        //then
+        assertThat(rects).hasSize(matrices.size());
+        assertThat(expand(rects, STEP)).isEqualTo(toCellKeys(matrices));
+    }
+
+    @Test
+    void 칸_간격이_일정하지_않은_격자() {
+        //given: 인덱스 간격 374, 375가 섞인 격자의 꽉 찬 4x5 + 떨어진 칸
+        List<MatrixDto> matrices = new ArrayList<>();
+        for (int row = 0; row < 4; row++) {
+            for (int col = 0; col < 5; col++) {
+                matrices.add(cell(UNEVEN_STEP, row, col));
+            }
+        }
+        matrices.add(cell(UNEVEN_STEP, 6, 7));
+
+        //when
+        List<double[]> rects = MatrixRectUtil.merge(matrices);
+
+        //then
+        assertThat(rects).hasSize(2);
+        assertThat(expand(rects, UNEVEN_STEP)).isEqualTo(toCellKeys(matrices));
+    }
+}
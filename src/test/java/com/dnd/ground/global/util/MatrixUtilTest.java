@@ -0,0 +1,66 @@
+package com.dnd.ground.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MatrixUtilTest {
+
+    private static final double STEP = 0.000374;  // 클라이언트 칸 간격 (data.sql 기준)
+
+    @Test
+    void 부동소수점_오차만_다른_칸은_같은_키() {
+        double latitude = 37.331558;
+        double longitude = -122.030216;
+
+        long cellKey = MatrixUtil.toCellKey(latitude, longitude);
+
+        assertThat(MatrixUtil.toCellKey(37.33155800000001, -122.03021599999999)).isEqualTo(cellKey);
+        assertThat(MatrixUtil.toCellKey(99817 * STEP, -326284 * STEP)).isEqualTo(cellKey);
+    }
+
+    @Test
+    void 인접한_클라이언트_칸은_다른_키() {
+        long cellKey = MatrixUtil.toCellKey(37.331558, -122.030216);
+
+        assertThat(MatrixUtil.toCellKey(37.331558 + STEP, -122.030216)).isNotEqualTo(cellKey);
+        assertThat(MatrixUtil.toCellKey(37.331558, -122.030216 + STEP)).isNotEqualTo(cellKey);
+    }
+
+    @Test
+    void 같은_칸_안의_다른_좌표는_합쳐지지_않음() {
+        //칸 키는 공간 격자가 아니므로 클라이언트 칸 하나 안의 좌표라도 다른 키
+        assertThat(MatrixUtil.toCellKey(37.331558, -122.030216))
+                .isNotEqualTo(MatrixUtil.toCellKey(37.331600, -122.030216));
+    }
+
+    @Test
+    void 칸_키에서_위도_경도_복원() {
+        double[][] points = {{37.331558, -122.030216}, {37.517552, 126.927372}, {-90, -180}, {90, 180}, {0, 0}};
+
+        for (double[] point : points) {
+            long cellKey = MatrixUtil.toCellKey(point[0], point[1]);
+            assertThat(MatrixUtil.toLatitude(cellKey)).isEqualTo(point[0]);
+            assertThat(MatrixUtil.toLongitude(cellKey)).isEqualTo(point[1]);
+        }
+    }
+
+    @Test
+    void 음수_반올림은_backfill_SQL과_같음() {
+        //backfill SQL: floor(x * 1000000 + 0.5), .5는 항상 +무한대 쪽으로 (MySQL round()는 -2.5 -> -3 또는 2.5 -> 2)
+        assertThat(MatrixUtil.toLatitudeIndex(-2.5 / MatrixUtil.RESOLUTION) - 90_000_000L).isEqualTo(-2L);
+        assertThat(MatrixUtil.toLongitudeIndex(-2.5 / MatrixUtil.RESOLUTION) - 180_000_000L).isEqualTo(-2L);
+
+        assertThat(MatrixUtil.toLatitudeIndex(2.5 / MatrixUtil.RESOLUTION) - 90_000_000L).isEqualTo(3L);
+    }
+
+    @Test
+    void 범위_밖이나_NaN은_유효하지_않음() {
+        assertThat(MatrixUtil.isValid(37.5, 127.0)).isTrue();
+        assertThat(MatrixUtil.isValid(null, 127.0)).isFalse();
+        assertThat(MatrixUtil.isValid(90.1, 127.0)).isFalse();
+        assertThat(MatrixUtil.isValid(37.5, -180.1)).isFalse();
+        assertThat(MatrixUtil.isValid(Double.NaN, 127.0)).isFalse();
+        assertThat(MatrixUtil.isValid(37.5, Double.POSITIVE_INFINITY)).isFalse();
+    }
+}
@@ -0,0 +1,71 @@
+package com.dnd.ground.global.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.Mockito.mock;
+
+class SectionExecutorTest {
+
+    // 스레드 2개(커넥션 풀 10의 절반 이하), timeout 100ms
+    SectionExecutor sectionExecutor = new SectionExecutor(mock(PlatformTransactionManager.class), 2, 10, 100, 10);
+
+    @AfterEach
+    void shutdown() {
+        sectionExecutor.shutdown();
+    }
+
+    @Test
+    void 시간_안에_끝난_섹션은_결과_반환() {
+        String result = SectionExecutor.await(sectionExecutor.supply("section", () -> "result", "fallback"));
+
+        assertThat(result).isEqualTo("result");
+    }
+
+    @Test
+    void 시간_초과된_섹션은_취소하고_fallback_반환() throws Exception {
+        //given
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        //when: timeout 보다 오래 걸리는 섹션
+        String result = SectionExecutor.await(sectionExecutor.supply("section", () -> {
+            try {
+                Thread.sleep(10_000);
+                return "result";
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw new IllegalStateException(e);
+            }
+        }, "fallback"));
+
+        //then: fallback 반환, 실행 중인 조회는 interrupt
+        assertThat(result).isEqualTo("fallback");
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void 섹션의_예외는_그대로_전달() {
+        IllegalArgumentException exception = new IllegalArgumentException("section");
+
+        Throwable thrown = catchThrowable(() ->
+                SectionExecutor.await(sectionExecutor.supply("section", () -> { throw exception; }, "fallback")));
+
+        assertThat(thrown).isSameAs(exception);
+    }
+
+    @Test
+    void 섹션의_Error는_감싸지_않고_그대로_전달() {
+        StackOverflowError error = new StackOverflowError("section");
+
+        Throwable thrown = catchThrowable(() ->
+                SectionExecutor.await(sectionExecutor.supply("section", () -> { throw error; }, "fallback")));
+
+        assertThat(thrown).isSameAs(error);
+    }
+}
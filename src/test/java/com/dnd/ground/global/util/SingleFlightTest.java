@@ -0,0 +1,72 @@
+package com.dnd.ground.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class SingleFlightTest {
+
+    SingleFlight singleFlight = new SingleFlight();
+
+    @Test
+    void 진행_중인_같은_조회는_결과를_함께_사용() throws Exception {
+        //given: leader의 조회가 끝나지 않은 상태
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        Future<String> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+            calls.incrementAndGet();
+            started.countDown();
+            await(release);
+            return "result";
+        }));
+        started.await();
+
+        //when: 같은 key 조회 후 leader 조회 완료
+        Future<String> follower = executor.submit(() -> singleFlight.execute("key", () -> {
+            calls.incrementAndGet();
+            return "other";
+        }));
+        Thread.sleep(200);
+        release.countDown();
+
+        //then
+        assertThat(leader.get(1, TimeUnit.SECONDS)).isEqualTo("result");
+        assertThat(follower.get(1, TimeUnit.SECONDS)).isEqualTo("result");
+        assertThat(calls.get()).isEqualTo(1);
+        executor.shutdown();
+    }
+
+    @Test
+    void 조회가_끝나면_다시_조회() {
+        assertThat(singleFlight.execute("key", () -> "first")).isEqualTo("first");
+        assertThat(singleFlight.execute("key", () -> "second")).isEqualTo("second");
+    }
+
+    @Test
+    void leader의_예외는_그대로_전달() {
+        IllegalStateException exception = new IllegalStateException("leader");
+
+        Throwable thrown = catchThrowable(() -> singleFlight.execute("key", () -> { throw exception; }));
+
+        assertThat(thrown).isSameAs(exception);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}